@@ -0,0 +1,65 @@
+package org.example.expert.config;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.domain.auth.service.TokenRevocationRegistry;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 토큰 발급/검증과 역할 조회의 요청 1건당 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthPrimitivesBenchmark {
+
+	private JwtUtil jwtUtil;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		byte[] secret = new byte[32];
+		new SecureRandom().nextBytes(secret);
+
+		jwtUtil = new JwtUtil(new SimpleMeterRegistry(), new TokenRevocationRegistry(Duration.ofMinutes(15)));
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret));
+		ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 10_000L);
+		ReflectionTestUtils.setField(jwtUtil, "accessTokenTtl", Duration.ofMinutes(15));
+		jwtUtil.init();
+
+		token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@test.com", "user", UserRole.USER, 0L));
+	}
+
+	@Benchmark
+	public String createToken() {
+		return jwtUtil.createToken(1L, "user@test.com", "user", UserRole.USER, 0L);
+	}
+
+	@Benchmark
+	public Claims extractClaims() {
+		return jwtUtil.extractClaims(token);
+	}
+
+	@Benchmark
+	public AuthUser authenticateCached() {
+		return jwtUtil.authenticate(token);
+	}
+
+	@Benchmark
+	public UserRole userRoleOf() {
+		return UserRole.of("USER");
+	}
+}
@@ -0,0 +1,107 @@
+package org.example.expert.config;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.domain.auth.service.TokenRevocationRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+// ./gradlew jmh 실행 후 gc.alloc.rate.norm(요청 1건당 할당 바이트)을 legacy/lean끼리 비교
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+	private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+	};
+
+	private LegacyJwtAuthenticationFilter legacyFilter;
+	private JwtAuthenticationFilter leanFilter;
+	private MockHttpServletRequest authenticatedRequest;
+	private MockHttpServletRequest invalidTokenRequest;
+	private MockHttpServletResponse response;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		byte[] secret = new byte[32];
+		new SecureRandom().nextBytes(secret);
+
+		JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry(), new TokenRevocationRegistry(Duration.ofMinutes(15)));
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret));
+		ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 10_000L);
+		ReflectionTestUtils.setField(jwtUtil, "accessTokenTtl", Duration.ofMinutes(15));
+		jwtUtil.init();
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		legacyFilter = new LegacyJwtAuthenticationFilter(jwtUtil, objectMapper);
+		leanFilter = new JwtAuthenticationFilter(jwtUtil, objectMapper);
+		leanFilter.initErrorBodies();
+
+		authenticatedRequest = new MockHttpServletRequest("GET", "/todos");
+		authenticatedRequest.addHeader("Authorization", jwtUtil.createToken(1L, "user@test.com", "user", UserRole.USER, 0L));
+		invalidTokenRequest = new MockHttpServletRequest("GET", "/todos");
+		invalidTokenRequest.addHeader("Authorization", "Bearer invalid.token.value");
+		response = new MockHttpServletResponse();
+	}
+
+	@TearDown(Level.Invocation)
+	public void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public Object authenticatedRequestLegacy() throws Exception {
+		legacyFilter.doFilter(authenticatedRequest, response, NO_OP_CHAIN);
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+
+	@Benchmark
+	public Object authenticatedRequestLean() throws Exception {
+		leanFilter.doFilter(authenticatedRequest, response, NO_OP_CHAIN);
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+
+	@Benchmark
+	public Object invalidTokenLegacy() throws Exception {
+		MockHttpServletResponse errorResponse = new MockHttpServletResponse();
+		legacyFilter.doFilter(invalidTokenRequest, errorResponse, NO_OP_CHAIN);
+		return errorResponse;
+	}
+
+	@Benchmark
+	public Object invalidTokenLean() throws Exception {
+		MockHttpServletResponse errorResponse = new MockHttpServletResponse();
+		leanFilter.doFilter(invalidTokenRequest, errorResponse, NO_OP_CHAIN);
+		return errorResponse;
+	}
+
+	@Benchmark
+	public UserRole roleLookupLegacy() {
+		return LegacyJwtAuthenticationFilter.roleOf("ADMIN");
+	}
+
+	@Benchmark
+	public UserRole roleLookupLean() {
+		return UserRole.of("ADMIN");
+	}
+}
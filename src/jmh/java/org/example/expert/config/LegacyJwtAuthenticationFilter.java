@@ -0,0 +1,93 @@
+package org.example.expert.config;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 비교용: 권한 목록과 에러 본문을 요청마다 새로 만들던 이전 JwtAuthenticationFilter
+public class LegacyJwtAuthenticationFilter extends OncePerRequestFilter {
+	private static final Logger log = LoggerFactory.getLogger(LegacyJwtAuthenticationFilter.class);
+
+	private final JwtUtil jwtUtil;
+	private final ObjectMapper objectMapper;
+
+	public LegacyJwtAuthenticationFilter(JwtUtil jwtUtil, ObjectMapper objectMapper) {
+		this.jwtUtil = jwtUtil;
+		this.objectMapper = objectMapper;
+	}
+
+	public static UserRole roleOf(String role) {
+		return Arrays.stream(UserRole.values())
+			.filter(r -> r.name().equalsIgnoreCase(role))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+		throws ServletException, IOException {
+		String authorizationHeader = request.getHeader("Authorization");
+
+		if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		try {
+			AuthUser authUser = jwtUtil.authenticate(jwtUtil.substringToken(authorizationHeader));
+			if (SecurityContextHolder.getContext().getAuthentication() == null) {
+				Collection<? extends GrantedAuthority> authorities =
+					Collections.singletonList(new SimpleGrantedAuthority(authUser.getUserRole().getUserRole()));
+				Authentication authenticationToken = new JwtAuthenticationToken(authUser, authorities);
+				SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+			}
+		} catch (ExpiredJwtException e) {
+			log.info("JWT 만료: userId={}, URI={}", e.getClaims().getSubject(), request.getRequestURI());
+			sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+			return;
+		} catch (SecurityException | MalformedJwtException | UnsupportedJwtException e) {
+			log.error("JWT 검증 실패 [{}]: URI={}", e.getClass().getSimpleName(), request.getRequestURI(), e);
+			sendErrorResponse(response, HttpStatus.BAD_REQUEST, "인증이 필요합니다.");
+			return;
+		} catch (Exception e) {
+			log.error("예상치 못한 오류: URI={}", request.getRequestURI(), e);
+			sendErrorResponse(response, HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리 중 오류가 발생했습니다.");
+			return;
+		}
+		chain.doFilter(request, response);
+	}
+
+	private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+		response.setStatus(status.value());
+		response.setContentType("application/json;charset=UTF-8");
+		Map<String, Object> errorResponse = new HashMap<>();
+		errorResponse.put("status", status.name());
+		errorResponse.put("code", status.value());
+		errorResponse.put("message", message);
+		response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+	}
+}
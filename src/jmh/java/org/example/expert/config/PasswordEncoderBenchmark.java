@@ -0,0 +1,51 @@
+package org.example.expert.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 두 BCrypt 구현의 cost별 encode/matches 시간 비교 (로그인 1건 = matches 1회)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+	private static final String RAW_PASSWORD = "Password1234!";
+
+	@Param({"SPRING", "FAVRE"})
+	private PasswordEncoderType encoderType;
+
+	@Param({"8", "10", "12"})
+	private int cost;
+
+	private PasswordEncoder passwordEncoder;
+	private String encodedPassword;
+
+	@Setup
+	public void setUp() {
+		passwordEncoder = switch (encoderType) {
+			case SPRING -> new BCryptPasswordEncoder(cost);
+			case FAVRE -> new FavreBCryptPasswordEncoder(cost);
+		};
+		encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+	}
+
+	@Benchmark
+	public String encode() {
+		return passwordEncoder.encode(RAW_PASSWORD);
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+	}
+}
@@ -0,0 +1,66 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LatencyMeasuringAspect {
+
+    private final MeterRegistry meterRegistry;
+    // 요청마다 Timer.builder로 registry를 조회하지 않도록 메서드별로 한 번만 등록
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    // 한 번도 실패하지 않은 메서드는 error 시계열을 만들지 않도록 처음 실패할 때 등록
+    private final Map<Method, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    @Around("@within(org.example.expert.domain.common.annotation.MeasureLatency) "
+            + "|| @annotation(org.example.expert.domain.common.annotation.MeasureLatency)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            successTimers.computeIfAbsent(method, this::successTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            errorTimers.computeIfAbsent(method, this::errorTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    // 인스턴스별 p50/p95/p99는 합산할 수 없으므로 내보내지 않고, histogram_quantile로 집계할 버킷만 범위를 좁혀 내보냄
+    private Timer successTimer(Method method) {
+        return builder(method, "success")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    // 실패는 건수와 평균/최대 시간만 보면 되므로 버킷 없이 count/sum/max 시계열만 둠
+    private Timer errorTimer(Method method) {
+        return builder(method, "error").register(meterRegistry);
+    }
+
+    private Timer.Builder builder(Method method, String outcome) {
+        return Timer.builder("method.latency")
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome);
+    }
+}
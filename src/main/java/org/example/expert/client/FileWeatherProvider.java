@@ -0,0 +1,48 @@
+package org.example.expert.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 외부 API 없이 실행하거나 벤치마크할 때 사용 (weather.provider.type=file)
+@Component
+@ConditionalOnProperty(name = "weather.provider.type", havingValue = "file")
+public class FileWeatherProvider implements WeatherProvider {
+
+    private final ObjectMapper objectMapper;
+    private final Resource location;
+
+    public FileWeatherProvider(
+            ObjectMapper objectMapper,
+            @Value("${weather.provider.file.location:classpath:weather/weather.json}") Resource location
+    ) {
+        this.objectMapper = objectMapper;
+        this.location = location;
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public List<WeatherDto> fetchWeather() {
+        try (InputStream in = location.getInputStream()) {
+            return Arrays.asList(objectMapper.readValue(in, WeatherDto[].class));
+        } catch (JsonProcessingException e) {
+            throw new WeatherProviderException(WeatherFailureKind.PARSE, "날씨 파일 형식이 올바르지 않습니다. " + location.getDescription());
+        } catch (IOException e) {
+            throw new WeatherProviderException(WeatherFailureKind.IO, "날씨 파일을 읽는데 실패했습니다. " + location.getDescription());
+        }
+    }
+}
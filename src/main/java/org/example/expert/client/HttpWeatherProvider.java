@@ -0,0 +1,116 @@
+package org.example.expert.client;
+
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@Component
+@ConditionalOnProperty(name = "weather.provider.type", havingValue = "http", matchIfMissing = true)
+public class HttpWeatherProvider implements WeatherProvider {
+
+    private final RestTemplate restTemplate;
+    private final URI weatherApiUri;
+    private final CircuitBreaker circuitBreaker;
+
+    public HttpWeatherProvider(
+            RestTemplateBuilder builder,
+            @Value("${weather.provider.http.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.provider.http.connect-timeout:PT1S}") Duration connectTimeout,
+            @Value("${weather.provider.http.read-timeout:PT2S}") Duration readTimeout,
+            @Value("${weather.provider.http.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.provider.http.circuit-breaker.open-duration:PT30S}") Duration openDuration
+    ) {
+        // JDK HttpClient는 keep-alive 커넥션을 내부 풀로 재사용함
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        this.restTemplate = builder.requestFactory(() -> requestFactory).build();
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+    }
+
+    @Override
+    public String getName() {
+        return "http";
+    }
+
+    @Override
+    public List<WeatherDto> fetchWeather() {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new WeatherProviderException(WeatherFailureKind.CIRCUIT_OPEN, "날씨 API 장애로 호출이 일시 중단되었습니다.");
+        }
+
+        try {
+            List<WeatherDto> weathers = requestWeather();
+            circuitBreaker.onSuccess();
+            return weathers;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    private List<WeatherDto> requestWeather() {
+        ResponseEntity<WeatherDto[]> responseEntity;
+        try {
+            responseEntity = restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
+        } catch (ResourceAccessException e) {
+            throw new WeatherProviderException(accessFailureKind(e), "날씨 API에 연결하지 못했거나 응답 시간이 초과되었습니다. " + e.getMessage());
+        } catch (RestClientResponseException e) {
+            throw new WeatherProviderException(WeatherFailureKind.STATUS, "날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + e.getStatusCode());
+        } catch (RestClientException e) {
+            throw new WeatherProviderException(WeatherFailureKind.PARSE, "날씨 API 응답을 처리하지 못했습니다. " + e.getMessage());
+        }
+
+        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
+            throw new WeatherProviderException(WeatherFailureKind.STATUS, "날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+        }
+
+        WeatherDto[] weatherArray = responseEntity.getBody();
+        return weatherArray == null ? List.of() : Arrays.asList(weatherArray);
+    }
+
+    // 연결 단계의 timeout은 연결 실패로, 응답을 기다리다 넘긴 timeout만 응답 시간 초과로 봄
+    private static WeatherFailureKind accessFailureKind(ResourceAccessException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpConnectTimeoutException) {
+                return WeatherFailureKind.CONNECT;
+            }
+            if (cause instanceof HttpTimeoutException || cause instanceof SocketTimeoutException) {
+                return WeatherFailureKind.TIMEOUT;
+            }
+        }
+        return WeatherFailureKind.CONNECT;
+    }
+
+    private URI buildWeatherApiUri(String baseUrl) {
+        return UriComponentsBuilder
+                .fromUriString(baseUrl)
+                .path("/f-api/weather.json")
+                .encode()
+                .build()
+                .toUri();
+    }
+}
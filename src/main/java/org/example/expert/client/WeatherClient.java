@@ -1,62 +1,243 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
-    private final RestTemplate restTemplate;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final WeatherProvider weatherProvider;
+    private final MeterRegistry meterRegistry;
+    private final Timer providerSuccessTimer;
+    private final Timer providerErrorTimer;
+    private final Duration ttl;
+    private final Duration refreshAhead;
+    private final Duration maxWait;
+    private final WeatherFallbackPolicy fallbackPolicy;
+    private final String fallbackWeather;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final Counter coalescedFetchCounter;
+    private final Counter fallbackCounter;
+    private final AtomicReference<WeatherSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<WeatherSnapshot>> inFlightFetch = new AtomicReference<>();
+
+    public WeatherClient(
+            WeatherProvider weatherProvider,
+            MeterRegistry meterRegistry,
+            @Value("${weather.cache.ttl:PT6H}") Duration ttl,
+            @Value("${weather.cache.refresh-ahead:PT5M}") Duration refreshAhead,
+            @Value("${weather.fetch.max-wait:PT3S}") Duration maxWait,
+            @Value("${weather.fetch.fallback:FAIL}") WeatherFallbackPolicy fallbackPolicy,
+            @Value("${weather.fetch.fallback-weather:Unknown}") String fallbackWeather
+    ) {
+        this.weatherProvider = weatherProvider;
+        this.meterRegistry = meterRegistry;
+        this.providerSuccessTimer = Timer.builder("weather.provider.latency")
+                .tag("provider", weatherProvider.getName())
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.providerErrorTimer = Timer.builder("weather.provider.latency")
+                .tag("provider", weatherProvider.getName())
+                .tag("outcome", "error")
+                .register(meterRegistry);
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+        this.maxWait = maxWait;
+        this.fallbackPolicy = fallbackPolicy;
+        this.fallbackWeather = fallbackWeather;
+        this.cacheHitCounter = Counter.builder("weather.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("weather.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.coalescedFetchCounter = Counter.builder("weather.fetch.coalesced")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("weather.fetch.fallbacks")
+                .tag("policy", fallbackPolicy.name())
+                .register(meterRegistry);
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        return getWeather(LocalDate.now());
+    }
+
+    public String getWeather(LocalDate date) {
+        LocalDateTime now = LocalDateTime.now();
+        WeatherSnapshot current = snapshot.get();
+
+        // 캐시에 해당 날짜가 없는 경우도 조회 실패와 같은 fallback 정책을 따름
+        try {
+            if (current != null && current.isValidAt(now)) {
+                cacheHitCounter.increment();
+                return findWeather(current, date);
+            }
 
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+            cacheMissCounter.increment();
+            return findWeather(refresh(now, now), date);
+        } catch (RuntimeException e) {
+            return fallback(current, date, e);
         }
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+    // 자정 직전에 미리 갱신해서 날짜가 바뀐 뒤 첫 요청이 외부 API를 기다리지 않도록 함
+    @Scheduled(fixedDelayString = "${weather.cache.refresh-check-interval:PT1M}")
+    public void refreshAheadOfExpiry() {
+        WeatherSnapshot current = snapshot.get();
+        LocalDateTime now = LocalDateTime.now();
+        if (current == null || current.isValidAt(now.plus(refreshAhead))) {
+            return;
+        }
+
+        try {
+            refresh(now, now.plus(refreshAhead));
+        } catch (RuntimeException e) {
+            log.warn("날씨 데이터 사전 갱신 실패: {}", e.getMessage());
         }
+    }
 
-        String today = getCurrentDate();
+    // 동시에 들어온 요청들은 먼저 도착한 요청의 조회 결과를 함께 기다림 (single-flight)
+    // validUntil까지 유효한 캐시가 이미 있으면 조회하지 않음
+    private WeatherSnapshot refresh(LocalDateTime now, LocalDateTime validUntil) {
+        CompletableFuture<WeatherSnapshot> fetch = new CompletableFuture<>();
+        CompletableFuture<WeatherSnapshot> inFlight = inFlightFetch.compareAndExchange(null, fetch);
+        if (inFlight != null) {
+            coalescedFetchCounter.increment();
+            return awaitFetch(inFlight);
+        }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+        try {
+            // 캐시를 확인한 직후 다른 요청의 조회가 끝났을 수 있으므로 조회 권한을 얻은 뒤 다시 확인
+            WeatherSnapshot latest = snapshot.get();
+            if (latest != null && latest.isValidAt(validUntil)) {
+                coalescedFetchCounter.increment();
+                fetch.complete(latest);
+                return latest;
             }
+
+            WeatherSnapshot fetched = new WeatherSnapshot(fetchWeather(), calculateExpiresAt(now));
+            snapshot.set(fetched);
+            fetch.complete(fetched);
+            return fetched;
+        } catch (RuntimeException e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightFetch.compareAndSet(fetch, null);
+        }
+    }
+
+    private WeatherSnapshot awaitFetch(CompletableFuture<WeatherSnapshot> inFlight) {
+        try {
+            return inFlight.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServerException("날씨 데이터 조회 대기 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("날씨 데이터 조회가 중단되었습니다.");
+        }
+    }
+
+    private String fallback(WeatherSnapshot stale, LocalDate date, RuntimeException cause) {
+        if (fallbackPolicy == WeatherFallbackPolicy.STALE && stale != null && stale.findWeather(date) != null) {
+            fallbackCounter.increment();
+            log.warn("날씨 데이터 조회 실패, 만료된 캐시 사용: {}", cause.getMessage());
+            return stale.findWeather(date);
         }
+        if (fallbackPolicy == WeatherFallbackPolicy.DEFAULT) {
+            fallbackCounter.increment();
+            log.warn("날씨 데이터 조회 실패, 기본값 사용: {}", cause.getMessage());
+            return fallbackWeather;
+        }
+        throw cause;
+    }
+
+    private String findWeather(WeatherSnapshot weatherSnapshot, LocalDate date) {
+        String weather = weatherSnapshot.findWeather(date);
+        if (weather == null) {
+            throw new ServerException(date + "에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private LocalDateTime calculateExpiresAt(LocalDateTime loadedAt) {
+        LocalDateTime nextMidnight = loadedAt.plus(refreshAhead).toLocalDate().plusDays(1).atStartOfDay();
+        LocalDateTime ttlExpiry = loadedAt.plus(ttl);
+        return ttlExpiry.isBefore(nextMidnight) ? ttlExpiry : nextMidnight;
     }
 
-    private URI buildWeatherApiUri() {
-        return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
-                .encode()
-                .build()
-                .toUri();
+    private Map<String, String> fetchWeather() {
+        long start = System.nanoTime();
+        List<WeatherDto> weathers;
+        try {
+            weathers = weatherProvider.fetchWeather();
+        } catch (RuntimeException e) {
+            providerErrorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            // provider가 모든 실패를 ServerException 계열로 감싸므로 예외 클래스가 아니라 실패 종류로 구분함
+            Counter.builder("weather.provider.errors")
+                    .tag("provider", weatherProvider.getName())
+                    .tag("failure", e instanceof WeatherProviderException providerException
+                            ? providerException.getFailureKind().tagValue()
+                            : "unknown")
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        }
+        providerSuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (weathers.isEmpty()) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+
+        Map<String, String> weatherByDate = new HashMap<>(weathers.size() * 2);
+        for (WeatherDto weatherDto : weathers) {
+            weatherByDate.putIfAbsent(weatherDto.getDate(), weatherDto.getWeather());
+        }
+        return weatherByDate;
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private static final class WeatherSnapshot {
+
+        private final Map<String, String> weatherByDate;
+        private final LocalDateTime expiresAt;
+
+        private WeatherSnapshot(Map<String, String> weatherByDate, LocalDateTime expiresAt) {
+            this.weatherByDate = weatherByDate;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isValidAt(LocalDateTime time) {
+            return time.isBefore(expiresAt);
+        }
+
+        private String findWeather(LocalDate date) {
+            return weatherByDate.get(date.format(DATE_FORMATTER));
+        }
     }
 }
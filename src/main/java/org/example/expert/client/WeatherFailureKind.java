@@ -0,0 +1,17 @@
+package org.example.expert.client;
+
+import java.util.Locale;
+
+// weather.provider.errors의 failure 태그 값, 장애 원인별로 구분해서 볼 수 있도록 provider가 정함
+public enum WeatherFailureKind {
+    TIMEOUT,       // 응답 시간 초과
+    CONNECT,       // 연결 실패
+    STATUS,        // 2xx가 아닌 응답
+    PARSE,         // 응답/파일 형식 오류
+    CIRCUIT_OPEN,  // 연속 실패로 호출 중단
+    IO;            // 그 밖의 입출력 오류
+
+    public String tagValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.expert.client;
+
+public enum WeatherFallbackPolicy {
+    FAIL,     // 예외를 그대로 전달
+    STALE,    // 만료된 캐시라도 오늘 데이터가 있으면 사용
+    DEFAULT   // weather.fetch.fallback-weather 값 사용
+}
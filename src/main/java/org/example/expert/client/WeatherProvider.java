@@ -0,0 +1,12 @@
+package org.example.expert.client;
+
+import java.util.List;
+
+import org.example.expert.client.dto.WeatherDto;
+
+public interface WeatherProvider {
+
+    String getName();
+
+    List<WeatherDto> fetchWeather();
+}
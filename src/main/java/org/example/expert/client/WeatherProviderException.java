@@ -0,0 +1,16 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+
+import lombok.Getter;
+
+@Getter
+public class WeatherProviderException extends ServerException {
+
+    private final WeatherFailureKind failureKind;
+
+    public WeatherProviderException(WeatherFailureKind failureKind, String message) {
+        super(message);
+        this.failureKind = failureKind;
+    }
+}
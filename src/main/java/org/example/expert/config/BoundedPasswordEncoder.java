@@ -0,0 +1,113 @@
+package org.example.expert.config;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// BCrypt 해시를 요청 스레드가 아닌 별도 스레드 풀에서 수행하고, 대기열이 가득 차면 바로 503으로 거절
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+	private static final String SATURATED_MESSAGE = "요청이 많아 잠시 후 다시 시도해주세요.";
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final Duration maxWait;
+	private final Timer hashTimer;
+	private final Counter rejectedCounter;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration maxWait,
+		MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.maxWait = maxWait;
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+			threads,
+			threads,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+		this.hashTimer = Timer.builder("password.hash.latency")
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("password.hash.rejected")
+			.register(meterRegistry);
+		Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+			.register(meterRegistry);
+		Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+			.register(meterRegistry);
+	}
+
+	public PasswordEncoder getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return submit(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return submit(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	private <T> T submit(Callable<T> hash) {
+		Future<T> future;
+		try {
+			future = executor.submit(() -> hashTimer.recordCallable(hash));
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			throw new ServiceUnavailableException(SATURATED_MESSAGE);
+		}
+
+		try {
+			return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			rejectedCounter.increment();
+			throw new ServiceUnavailableException(SATURATED_MESSAGE);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new ServerException("비밀번호 처리 중 오류가 발생했습니다.");
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new ServerException("비밀번호 처리가 중단되었습니다.");
+		}
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,53 @@
+package org.example.expert.config;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import at.favre.lib.crypto.bcrypt.LongPasswordStrategies;
+
+// at.favre.lib:bcrypt 기반 PasswordEncoder, BCryptPasswordEncoder와 같은 $2a$ 형식이라 기존 해시와 서로 검증 가능
+public class FavreBCryptPasswordEncoder implements PasswordEncoder {
+
+	private static final BCrypt.Version VERSION = BCrypt.Version.VERSION_2A;
+	// BCrypt 키는 72바이트까지만 사용함
+	private static final int MAX_KEY_BYTES = 72;
+
+	private final int cost;
+	private final BCrypt.Hasher hasher = BCrypt.with(VERSION, LongPasswordStrategies.truncate(VERSION));
+	private final BCrypt.Verifyer verifyer = BCrypt.verifyer(VERSION, LongPasswordStrategies.truncate(VERSION));
+
+	public FavreBCryptPasswordEncoder(int cost) {
+		this.cost = cost;
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		String password = rawPassword.toString();
+		if (exceedsFavreKeyLength(password)) {
+			return org.springframework.security.crypto.bcrypt.BCrypt.hashpw(password,
+				org.springframework.security.crypto.bcrypt.BCrypt.gensalt("$2a", cost));
+		}
+		return hasher.hashToString(cost, password.toCharArray());
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+			return false;
+		}
+		String password = rawPassword.toString();
+		if (exceedsFavreKeyLength(password)) {
+			return org.springframework.security.crypto.bcrypt.BCrypt.checkpw(password, encodedPassword);
+		}
+		return verifyer.verify(password.toCharArray(), encodedPassword.toCharArray()).verified;
+	}
+
+	// favre는 71바이트 + NUL로 잘라서 키를 만들고, BCryptPasswordEncoder는 비밀번호 앞 72바이트를 그대로 씀
+	// 72바이트 이상이면 두 키가 달라지므로 이 경우만 Spring BCrypt로 처리해서 기존 해시와 같은 결과를 냄
+	private static boolean exceedsFavreKeyLength(String password) {
+		return password.length() >= MAX_KEY_BYTES / 3
+			&& password.getBytes(StandardCharsets.UTF_8).length >= MAX_KEY_BYTES;
+	}
+}
@@ -1,11 +1,13 @@
 package org.example.expert.config;
 
 import java.io.IOException;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.http.HttpStatus;
@@ -18,10 +20,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -34,9 +36,24 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+	// 역할별 권한 목록은 요청마다 새로 만들 필요가 없으므로 미리 만들어 둠
+	private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES_BY_ROLE = createAuthoritiesByRole();
+
 	private final JwtUtil jwtUtil;
 	private final ObjectMapper objectMapper;
 
+	// 에러 응답 본문은 종류가 정해져 있으므로 시작 시 한 번만 직렬화
+	private byte[] unauthorizedBody;
+	private byte[] invalidTokenBody;
+	private byte[] serverErrorBody;
+
+	@PostConstruct
+	public void initErrorBodies() throws IOException {
+		unauthorizedBody = serializeError(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+		invalidTokenBody = serializeError(HttpStatus.BAD_REQUEST, "인증이 필요합니다.");
+		serverErrorBody = serializeError(HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리 중 오류가 발생했습니다.");
+	}
+
 	@Override
 	protected void doFilterInternal(
 		HttpServletRequest httpRequest,
@@ -61,45 +78,53 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private boolean processAuthentication(String jwt, HttpServletRequest request, HttpServletResponse response) throws IOException {
 		try {
-			Claims claims = jwtUtil.extractClaims(jwt);
+			AuthUser authUser = jwtUtil.authenticate(jwt);
 
 			if (SecurityContextHolder.getContext().getAuthentication() == null) {
-				setAuthentication(claims);
+				setAuthentication(authUser);
 			}
 			return true;
 		} catch (ExpiredJwtException e){
 			log.info("JWT 만료: userId={}, URI={}", e.getClaims().getSubject(), request.getRequestURI());
-			sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+			sendErrorResponse(response, HttpStatus.UNAUTHORIZED, unauthorizedBody);
+		} catch (AuthException e){
+			log.info("폐기된 JWT: URI={}, message={}", request.getRequestURI(), e.getMessage());
+			sendErrorResponse(response, HttpStatus.UNAUTHORIZED, unauthorizedBody);
 		} catch (SecurityException | MalformedJwtException | UnsupportedJwtException e){
 			log.error("JWT 검증 실패 [{}]: URI={}", e.getClass().getSimpleName(), request.getRequestURI(), e);
-			sendErrorResponse(response, HttpStatus.BAD_REQUEST, "인증이 필요합니다.");
+			sendErrorResponse(response, HttpStatus.BAD_REQUEST, invalidTokenBody);
 		} catch (Exception e){
 			log.error("예상치 못한 오류: URI={}", request.getRequestURI(), e);
-			sendErrorResponse(response, HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리 중 오류가 발생했습니다.");
+			sendErrorResponse(response, HttpStatus.INTERNAL_SERVER_ERROR, serverErrorBody);
 		}
 		return false;
 	}
 
-	private void setAuthentication(Claims claims) {
-		Long userId = Long.valueOf(claims.getSubject());
-		String email = claims.get("email", String.class);
-		String nickname =  claims.get("nickname", String.class);
-		UserRole userRole = UserRole.of(claims.get("userRole", String.class));
-
-		AuthUser authUser = new AuthUser(userId, email, nickname, userRole);
-		Collection<? extends GrantedAuthority> authorities =
-			Collections.singletonList(new SimpleGrantedAuthority(userRole.getUserRole()));
-		Authentication authenticationToken = new JwtAuthenticationToken(authUser, authorities);
+	private void setAuthentication(AuthUser authUser) {
+		Authentication authenticationToken = new JwtAuthenticationToken(authUser, AUTHORITIES_BY_ROLE.get(authUser.getUserRole()));
 		SecurityContextHolder.getContext().setAuthentication(authenticationToken);
 	}
 
-	private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+	private void sendErrorResponse(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
 		response.setStatus(status.value());
 		response.setContentType("application/json;charset=UTF-8");
-		Map<String, Object> errorResponse = new HashMap<>();
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	private byte[] serializeError(HttpStatus status, String message) throws IOException {
+		Map<String, Object> errorResponse = new LinkedHashMap<>();
 		errorResponse.put("status", status.name());
 		errorResponse.put("code", status.value());
 		errorResponse.put("message", message);
-		response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+		return objectMapper.writeValueAsBytes(errorResponse);
+	}
+
+	private static Map<UserRole, List<GrantedAuthority>> createAuthoritiesByRole() {
+		Map<UserRole, List<GrantedAuthority>> authoritiesByRole = new EnumMap<>(UserRole.class);
+		for (UserRole userRole : UserRole.values()) {
+			authoritiesByRole.put(userRole, List.of(new SimpleGrantedAuthority(userRole.getUserRole())));
+		}
+		return Collections.unmodifiableMap(authoritiesByRole);
 	}
 }
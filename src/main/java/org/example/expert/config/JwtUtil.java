@@ -1,40 +1,87 @@
 package org.example.expert.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.service.TokenRevocationRegistry;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j(topic = "JwtUtil")
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final String VERSION_CLAIM = "ver";
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    // 역할 변경이 반영되기까지 걸리는 최대 시간이기도 하므로 짧게 유지
+    @Value("${jwt.access-token.ttl:PT15M}")
+    private Duration accessTokenTtl;
+    @Value("${jwt.refresh-token.ttl:P14D}")
+    private Duration refreshTokenTtl;
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private final MeterRegistry meterRegistry;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    // 서명 키가 정해지면 바뀌지 않으므로 parser 하나를 모든 스레드에서 공유
+    private JwtParser jwtParser;
+    private Timer verificationTimer;
+    // 검증을 마친 토큰의 SHA-256 digest -> AuthUser, 토큰 만료 시각에 제거
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        verificationTimer = Timer.builder("jwt.verification.latency")
+                .register(meterRegistry);
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
     }
 
-    public String createToken(Long userId, String email, String nickname, UserRole userRole) {
+    public String createToken(Long userId, String email, String nickname, UserRole userRole, long tokenVersion) {
         Date date = new Date();
 
         return BEARER_PREFIX +
@@ -43,12 +90,35 @@ public class JwtUtil {
                         .claim("email", email)
                         .claim("nickname", nickname)
                         .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
+                        .claim(VERSION_CLAIM, tokenVersion)
+                        .setExpiration(new Date(date.getTime() + accessTokenTtl.toMillis()))
                         .setIssuedAt(date) // 발급일
                         .signWith(key, signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
+    // refresh token에는 유저 정보 없이 id와 버전만 담고, 재발급 시 DB의 현재 값으로 access token을 만듦
+    public String createRefreshToken(Long userId, long tokenVersion) {
+        Date date = new Date();
+
+        return Jwts.builder()
+                .setSubject(String.valueOf(userId))
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(VERSION_CLAIM, tokenVersion)
+                .setExpiration(new Date(date.getTime() + refreshTokenTtl.toMillis()))
+                .setIssuedAt(date)
+                .signWith(key, signatureAlgorithm)
+                .compact();
+    }
+
+    public RefreshTokenClaims parseRefreshToken(String refreshToken) {
+        Claims claims = extractClaims(refreshToken);
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("refresh token이 아닙니다.");
+        }
+        return new RefreshTokenClaims(Long.parseLong(claims.getSubject()), tokenVersionOf(claims));
+    }
+
     public String substringToken(String tokenValue) {
         if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
             return tokenValue.substring(7);
@@ -57,10 +127,86 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    // 같은 토큰이 반복해서 들어오면 서명 검증과 claims 파싱을 건너뜀
+    public AuthUser authenticate(String token) {
+        String digest = digest(token);
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(digest);
+        if (verifiedToken == null) {
+            verifiedToken = verify(token);
+            if (verifiedToken.expiresAtMillis() > 0) {
+                verifiedTokens.put(digest, verifiedToken);
+            }
+        }
+
+        // 캐시에 있는 토큰도 매번 확인해서 역할 변경 직후부터 이전 토큰을 거절
+        AuthUser authUser = verifiedToken.authUser();
+        if (tokenRevocationRegistry.isRevoked(authUser.getId(), verifiedToken.tokenVersion())) {
+            throw new AuthException("권한 정보가 변경되었습니다. 토큰을 다시 발급받아주세요.");
+        }
+        return authUser;
+    }
+
+    private VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        Claims claims = extractClaims(token);
+        verificationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("refresh token으로는 인증할 수 없습니다.");
+        }
+
+        AuthUser authUser = new AuthUser(
+                Long.valueOf(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("nickname", String.class),
+                UserRole.of(claims.get("userRole", String.class))
+        );
+        long expiresAtMillis = claims.getExpiration() == null ? 0 : claims.getExpiration().getTime();
+        return new VerifiedToken(authUser, tokenVersionOf(claims), expiresAtMillis);
+    }
+
+    // 버전 claim이 없는 토큰(도입 전 발급)은 0으로 취급
+    private long tokenVersionOf(Claims claims) {
+        Long tokenVersion = claims.get(VERSION_CLAIM, Long.class);
+        return tokenVersion == null ? 0 : tokenVersion;
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record RefreshTokenClaims(long userId, long tokenVersion) {
+    }
+
+    private record VerifiedToken(AuthUser authUser, long tokenVersion, long expiresAtMillis) {
+    }
+
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package org.example.expert.config;
+
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// management.server.port로 분리된 관리 서버로 들어온 요청만 매칭 (포트를 분리하지 않았으면 아무 요청도 매칭하지 않음)
+// X-Forwarded-Port로 바뀌는 server port가 아니라 실제로 받은 local port로 비교하고, port 0이어도 실제 바인딩된 포트를 사용함
+@Component
+public class ManagementPortRequestMatcher implements RequestMatcher {
+
+	private static final String MANAGEMENT_NAMESPACE = "management";
+
+	private volatile int managementPort = -1;
+
+	@EventListener
+	public void onWebServerInitialized(WebServerInitializedEvent event) {
+		if (MANAGEMENT_NAMESPACE.equals(event.getApplicationContext().getServerNamespace())) {
+			managementPort = event.getWebServer().getPort();
+		}
+	}
+
+	@Override
+	public boolean matches(HttpServletRequest request) {
+		int port = managementPort;
+		return port > 0 && request.getLocalPort() == port;
+	}
+}
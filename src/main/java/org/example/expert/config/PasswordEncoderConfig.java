@@ -0,0 +1,34 @@
+package org.example.expert.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+	@Bean
+	public BoundedPasswordEncoder passwordEncoder(
+		MeterRegistry meterRegistry,
+		@Value("${password.hash.encoder:SPRING}") PasswordEncoderType encoderType,
+		@Value("${password.hash.cost:10}") int cost,
+		@Value("${password.hash.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+		@Value("${password.hash.queue-capacity:64}") int queueCapacity,
+		@Value("${password.hash.max-wait:PT2S}") Duration maxWait
+	) {
+		return new BoundedPasswordEncoder(createEncoder(encoderType, cost), threads, queueCapacity, maxWait, meterRegistry);
+	}
+
+	private PasswordEncoder createEncoder(PasswordEncoderType encoderType, int cost) {
+		return switch (encoderType) {
+			case SPRING -> new BCryptPasswordEncoder(cost);
+			case FAVRE -> new FavreBCryptPasswordEncoder(cost);
+		};
+	}
+}
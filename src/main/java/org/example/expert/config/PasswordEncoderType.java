@@ -0,0 +1,6 @@
+package org.example.expert.config;
+
+public enum PasswordEncoderType {
+	SPRING, // spring-security BCryptPasswordEncoder
+	FAVRE   // at.favre.lib:bcrypt
+}
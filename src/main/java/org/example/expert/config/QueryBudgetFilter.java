@@ -0,0 +1,89 @@
+package org.example.expert.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+// 요청마다 실행된 SQL 수를 세서 예산 초과와 같은 SQL 반복(N+1 의심)을 잡아냄
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+	// 테스트에서 엔드포인트별 쿼리 수를 확인할 수 있도록 요청 attribute로 남김
+	public static final String STATEMENT_COUNT_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".statementCount";
+
+	private final boolean enabled;
+	private final int maxStatements;
+	private final int repeatThreshold;
+	private final QueryBudgetMode mode;
+	private final String[] excludedPaths;
+
+	public QueryBudgetFilter(
+		@Value("${query-budget.enabled:true}") boolean enabled,
+		@Value("${query-budget.max-statements:20}") int maxStatements,
+		@Value("${query-budget.repeat-threshold:10}") int repeatThreshold,
+		@Value("${query-budget.mode:LOG}") QueryBudgetMode mode,
+		@Value("${query-budget.excluded-paths:/admin/users/import}") String[] excludedPaths
+	) {
+		this.enabled = enabled;
+		this.maxStatements = maxStatements;
+		this.repeatThreshold = repeatThreshold;
+		this.mode = mode;
+		this.excludedPaths = excludedPaths;
+	}
+
+	// bulk import처럼 배치마다 SQL을 실행하는 것이 정상인 요청은 세지 않음
+	@Override
+	protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+		if (!enabled) {
+			return true;
+		}
+		String uri = request.getRequestURI();
+		for (String excludedPath : excludedPaths) {
+			if (uri.startsWith(excludedPath)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(
+		@NonNull HttpServletRequest request,
+		@NonNull HttpServletResponse response,
+		@NonNull FilterChain chain
+	) throws ServletException, IOException {
+		RequestStatements statements = RequestStatements.begin(maxStatements, repeatThreshold, mode == QueryBudgetMode.REJECT);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			RequestStatements.end();
+			request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements.getCount());
+			report(request, statements);
+		}
+	}
+
+	private void report(HttpServletRequest request, RequestStatements statements) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String endpoint = request.getMethod() + " " + (pattern == null ? request.getRequestURI() : pattern);
+		if (statements.isOverBudget()) {
+			log.warn("SQL 예산 초과 [{}] {}건 (예산 {}건)", endpoint, statements.getCount(), maxStatements);
+		}
+		if (statements.isRepeated()) {
+			log.warn("N+1 의심 [{}] 같은 SQL {}회 반복: {}", endpoint, statements.getMostRepeatedCount(), statements.getMostRepeatedShape());
+		}
+	}
+}
@@ -0,0 +1,6 @@
+package org.example.expert.config;
+
+public enum QueryBudgetMode {
+	LOG,    // 요청이 끝난 뒤 경고 로그만 남김
+	REJECT  // 예산을 넘기는 SQL을 실행하지 않고 500으로 중단
+}
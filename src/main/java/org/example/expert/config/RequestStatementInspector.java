@@ -0,0 +1,16 @@
+package org.example.expert.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 SQL을 prepare하기 직전에 호출, 요청 안에서 실행된 SQL만 셈 (SQL은 바꾸지 않음)
+public class RequestStatementInspector implements StatementInspector {
+
+	@Override
+	public String inspect(String sql) {
+		RequestStatements statements = RequestStatements.current();
+		if (statements != null) {
+			statements.record(sql);
+		}
+		return sql;
+	}
+}
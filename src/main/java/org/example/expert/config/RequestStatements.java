@@ -0,0 +1,83 @@
+package org.example.expert.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.example.expert.domain.common.exception.QueryBudgetExceededException;
+import org.example.expert.querystats.QueryFingerprint;
+
+// 요청 하나에서 실행된 SQL 수와 모양별 반복 횟수, QueryBudgetFilter가 요청 스레드에서 열고 닫음
+// 비동기 스트리밍이나 스케줄러처럼 요청 스레드 밖에서 실행된 SQL은 세지 않음
+public class RequestStatements {
+
+	private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+	private final int maxStatements;
+	private final int repeatThreshold;
+	private final boolean reject;
+	private final Map<String, Integer> countsByShape = new HashMap<>();
+	private int count;
+	private String mostRepeatedShape;
+	private int mostRepeatedCount;
+
+	RequestStatements(int maxStatements, int repeatThreshold, boolean reject) {
+		this.maxStatements = maxStatements;
+		this.repeatThreshold = repeatThreshold;
+		this.reject = reject;
+	}
+
+	static RequestStatements begin(int maxStatements, int repeatThreshold, boolean reject) {
+		RequestStatements statements = new RequestStatements(maxStatements, repeatThreshold, reject);
+		CURRENT.set(statements);
+		return statements;
+	}
+
+	static RequestStatements current() {
+		return CURRENT.get();
+	}
+
+	static void end() {
+		CURRENT.remove();
+	}
+
+	void record(String sql) {
+		// 리터럴 값과 IN 절 파라미터 개수만 다른 SQL은 querystats와 같은 기준으로 같은 모양으로 봄
+		String shape = QueryFingerprint.of(sql);
+		int repeated = countsByShape.merge(shape, 1, Integer::sum);
+		count++;
+		if (repeated > mostRepeatedCount) {
+			mostRepeatedShape = shape;
+			mostRepeatedCount = repeated;
+		}
+
+		if (!reject) {
+			return;
+		}
+		if (count > maxStatements) {
+			throw new QueryBudgetExceededException("요청당 SQL 실행 한도(" + maxStatements + "건)를 초과했습니다.");
+		}
+		if (repeated >= repeatThreshold) {
+			throw new QueryBudgetExceededException("같은 SQL이 " + repeated + "회 반복 실행되었습니다. (N+1 의심)");
+		}
+	}
+
+	boolean isOverBudget() {
+		return count > maxStatements;
+	}
+
+	boolean isRepeated() {
+		return mostRepeatedCount >= repeatThreshold;
+	}
+
+	int getCount() {
+		return count;
+	}
+
+	String getMostRepeatedShape() {
+		return mostRepeatedShape;
+	}
+
+	int getMostRepeatedCount() {
+		return mostRepeatedCount;
+	}
+}
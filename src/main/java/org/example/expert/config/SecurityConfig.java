@@ -7,12 +7,13 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.servletapi.SecurityContextHolderAwareRequestFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.example.expert.domain.user.enums.UserRole;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -21,11 +22,7 @@ import lombok.RequiredArgsConstructor;
 @EnableMethodSecurity(securedEnabled = true)
 public class SecurityConfig {
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
-
-	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
-	}
+	private final ManagementPortRequestMatcher managementPortRequestMatcher;
 
 	@Bean
 	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -44,7 +41,11 @@ public class SecurityConfig {
 			.rememberMe(AbstractHttpConfigurer::disable)
 
 			.authorizeHttpRequests(auth -> auth
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // StreamingResponseBody 완료 후 async dispatch (인가는 최초 요청에서 완료)
 				.requestMatchers("/auth/**", "/actuator/health/**").permitAll()
+				.requestMatchers(new AndRequestMatcher(AntPathRequestMatcher.antMatcher("/actuator/prometheus"), managementPortRequestMatcher)).permitAll() // 수집기는 내부망에만 연 management.server.port로 토큰 없이 긁어감
+				.requestMatchers("/actuator/prometheus").hasAuthority(UserRole.Authority.ADMIN) // 관리 포트를 분리하지 않았거나 서비스 포트로 들어오면 ADMIN만 허용
+				.requestMatchers("/actuator/querystats/**").hasAuthority(UserRole.Authority.ADMIN) // SQL 원문이 보이고 초기화도 가능하므로 ADMIN만 허용
 				.requestMatchers("/test").hasAuthority(UserRole.Authority.ADMIN) // `/test`는 ADMIN만 허용
 				.requestMatchers(request -> request.getRequestURI().startsWith("/admin")).hasAuthority(UserRole.Authority.ADMIN) // `/admin/**`는 ADMIN만 허용
 				.requestMatchers("/open").permitAll() // `/open`은 아무나 접근 가능
@@ -0,0 +1,104 @@
+package org.example.expert.domain.auth.service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 이메일별, IP별 token bucket (GCRA 방식: 버킷마다 AtomicLong 하나만 CAS로 갱신하므로 lock 없음)
+@Component
+public class AuthRateLimiter {
+
+	private static final String REJECTED_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+	private final boolean enabled;
+	private final Limit emailLimit;
+	private final Limit ipLimit;
+	private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+	public AuthRateLimiter(
+		@Value("${auth.rate-limit.enabled:true}") boolean enabled,
+		@Value("${auth.rate-limit.email.capacity:5}") int emailCapacity,
+		@Value("${auth.rate-limit.email.refill-interval:PT12S}") Duration emailRefillInterval,
+		@Value("${auth.rate-limit.ip.capacity:20}") int ipCapacity,
+		@Value("${auth.rate-limit.ip.refill-interval:PT3S}") Duration ipRefillInterval
+	) {
+		this.enabled = enabled;
+		this.emailLimit = new Limit(emailCapacity, emailRefillInterval);
+		this.ipLimit = new Limit(ipCapacity, ipRefillInterval);
+	}
+
+	// DB 조회나 비밀번호 해시 전에 호출
+	public void checkSignin(String email, String clientIp) {
+		check("signin", email, clientIp);
+	}
+
+	public void checkSignup(String email, String clientIp) {
+		check("signup", email, clientIp);
+	}
+
+	private void check(String action, String email, String clientIp) {
+		if (!enabled) {
+			return;
+		}
+		long now = System.nanoTime();
+		// IP를 먼저 확인해서 한 IP가 여러 이메일을 돌려가며 시도하는 경우 이메일 버킷을 소모하지 않음
+		if (!tryAcquire(action + ":ip:" + clientIp, ipLimit, now)
+			|| (email != null && !tryAcquire(action + ":email:" + email.trim().toLowerCase(Locale.ROOT), emailLimit, now))) {
+			throw new TooManyRequestsException(REJECTED_MESSAGE);
+		}
+	}
+
+	private boolean tryAcquire(String key, Limit limit, long now) {
+		return buckets.computeIfAbsent(key, k -> new Bucket()).tryAcquire(now, limit);
+	}
+
+	// 완전히 다시 채워진 버킷은 새 버킷과 같으므로 제거해도 동작이 바뀌지 않음
+	@Scheduled(fixedDelayString = "${auth.rate-limit.eviction-interval:PT1M}")
+	public void evictIdleBuckets() {
+		long now = System.nanoTime();
+		buckets.values().removeIf(bucket -> bucket.isIdle(now));
+	}
+
+	int bucketCount() {
+		return buckets.size();
+	}
+
+	private static final class Limit {
+		private final long intervalNanos;
+		private final long burstToleranceNanos;
+
+		private Limit(int capacity, Duration refillInterval) {
+			this.intervalNanos = refillInterval.toNanos();
+			this.burstToleranceNanos = intervalNanos * (capacity - 1);
+		}
+	}
+
+	private static final class Bucket {
+		// 다음 토큰이 온전히 채워지는 시각 (theoretical arrival time)
+		private final AtomicLong theoreticalArrivalTime = new AtomicLong(Long.MIN_VALUE);
+
+		private boolean tryAcquire(long now, Limit limit) {
+			while (true) {
+				long tat = theoreticalArrivalTime.get();
+				long base = Math.max(tat, now);
+				if (base - now > limit.burstToleranceNanos) {
+					return false;
+				}
+				if (theoreticalArrivalTime.compareAndSet(tat, base + limit.intervalNanos)) {
+					return true;
+				}
+			}
+		}
+
+		private boolean isIdle(long now) {
+			return theoreticalArrivalTime.get() <= now;
+		}
+	}
+}
@@ -1,20 +1,29 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.annotation.MeasureLatency;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.example.expert.domain.user.service.NicknamePrefixIndex;
+import org.example.expert.domain.user.service.NicknameSnapshot;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@MeasureLatency
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,11 +32,15 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final EmailBloomFilter emailBloomFilter;
+    private final NicknamePrefixIndex nicknamePrefixIndex;
+    private final NicknameSnapshot nicknameSnapshot;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+        // 필터에 없는 이메일은 가입된 적이 없으므로 조회를 생략함 (동시 가입은 email unique 제약으로 막음)
+        if (emailBloomFilter.mightContain(signupRequest.getEmail()) && userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
@@ -41,11 +54,21 @@ public class AuthService {
                 signupRequest.getNickname(),
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            // id가 IDENTITY 전략이라 save 시점에 insert가 실행되어 unique 위반도 여기서 드러남
+            savedUser = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+        emailBloomFilter.put(savedUser.getEmail());
+        nicknamePrefixIndex.add(savedUser.getId(), savedUser.getNickname());
+        nicknameSnapshot.add(savedUser.getId(), savedUser.getNickname());
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), savedUser.getNickname(), userRole);
+        String bearerToken = createBearerToken(savedUser);
+        String refreshToken = jwtUtil.createRefreshToken(savedUser.getId(), savedUser.getTokenVersion());
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
     public SigninResponse signin(SigninRequest signinRequest) {
@@ -57,8 +80,36 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole());
+        String bearerToken = createBearerToken(user);
+        String refreshToken = jwtUtil.createRefreshToken(user.getId(), user.getTokenVersion());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    // access token은 요청마다 DB를 조회하지 않으므로, 최신 역할은 재발급 시점에 DB에서 가져와 반영합니다.
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        JwtUtil.RefreshTokenClaims refreshTokenClaims;
+        try {
+            refreshTokenClaims = jwtUtil.parseRefreshToken(tokenRefreshRequest.getRefreshToken());
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthException("유효하지 않은 refresh token입니다.");
+        }
+
+        User user = userRepository.findById(refreshTokenClaims.userId()).orElseThrow(
+                () -> new AuthException("유효하지 않은 refresh token입니다."));
+
+        // 역할 변경 등으로 버전이 올라가면 이전에 발급한 refresh token도 사용할 수 없음
+        if (user.getTokenVersion() != refreshTokenClaims.tokenVersion()) {
+            throw new AuthException("만료된 refresh token입니다. 다시 로그인해주세요.");
+        }
+
+        String bearerToken = createBearerToken(user);
+        String refreshToken = jwtUtil.createRefreshToken(user.getId(), user.getTokenVersion());
+
+        return new TokenRefreshResponse(bearerToken, refreshToken);
+    }
 
-        return new SigninResponse(bearerToken);
+    private String createBearerToken(User user) {
+        return jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole(), user.getTokenVersion());
     }
 }
@@ -0,0 +1,62 @@
+package org.example.expert.domain.auth.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 유저별로 "이 버전보다 낮은 access token은 무효"만 기억하는 denylist (요청마다 DB를 조회하지 않음)
+// 폐기 시점에 발급된 access token은 TTL이 지나면 모두 만료되므로 항목도 TTL 뒤에 제거함
+@Component
+public class TokenRevocationRegistry {
+
+	private final long retentionMillis;
+	private final Map<Long, Revocation> revocations = new ConcurrentHashMap<>();
+
+	public TokenRevocationRegistry(@Value("${jwt.access-token.ttl:PT15M}") Duration accessTokenTtl) {
+		this.retentionMillis = accessTokenTtl.toMillis();
+	}
+
+	// 롤백된 역할 변경으로 유효한 토큰이 거절되지 않도록 트랜잭션 안에서 호출되면 커밋 후에 반영함
+	public void revokeBefore(long userId, long minValidVersion) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					revokeCommitted(userId, minValidVersion);
+				}
+			});
+			return;
+		}
+		revokeCommitted(userId, minValidVersion);
+	}
+
+	private void revokeCommitted(long userId, long minValidVersion) {
+		Revocation revocation = new Revocation(minValidVersion, System.currentTimeMillis() + retentionMillis);
+		revocations.merge(userId, revocation,
+			(current, added) -> current.minValidVersion() > added.minValidVersion() ? current : added);
+	}
+
+	public boolean isRevoked(long userId, long tokenVersion) {
+		Revocation revocation = revocations.get(userId);
+		return revocation != null && tokenVersion < revocation.minValidVersion();
+	}
+
+	@Scheduled(fixedDelayString = "${jwt.revocation.eviction-interval:PT1M}")
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+		revocations.values().removeIf(revocation -> revocation.expiresAtMillis() <= now);
+	}
+
+	int size() {
+		return revocations.size();
+	}
+
+	private record Revocation(long minValidVersion, long expiresAtMillis) {
+	}
+}
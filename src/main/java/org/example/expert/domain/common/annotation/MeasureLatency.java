@@ -0,0 +1,12 @@
+package org.example.expert.domain.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 클래스에 붙이면 모든 public 메서드, 메서드에 붙이면 해당 메서드의 실행 시간을 method.latency로 기록
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MeasureLatency {
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class QueryBudgetExceededException extends ServerException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
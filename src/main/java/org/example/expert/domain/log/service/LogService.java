@@ -2,6 +2,7 @@ package org.example.expert.domain.log.service;
 
 import java.time.LocalDateTime;
 
+import org.example.expert.domain.common.annotation.MeasureLatency;
 import org.example.expert.domain.log.entity.Log;
 import org.example.expert.domain.log.repository.LogRepository;
 import org.springframework.stereotype.Service;
@@ -12,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
+@MeasureLatency
 @Service
 @RequiredArgsConstructor
 public class LogService {
@@ -3,6 +3,7 @@ package org.example.expert.domain.manager.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.annotation.MeasureLatency;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+@MeasureLatency
 @RestController
 @RequiredArgsConstructor
 public class ManagerController {
@@ -1,6 +1,7 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.MeasureLatency;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.log.service.LogService;
@@ -21,6 +22,7 @@ import org.springframework.util.ObjectUtils;
 import java.util.ArrayList;
 import java.util.List;
 
+@MeasureLatency
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -53,6 +55,7 @@ public class ManagerService {
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.increaseManagerCount(todo.getId());
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -96,5 +99,6 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.decreaseManagerCount(todo.getId());
     }
 }
@@ -0,0 +1,50 @@
+package org.example.expert.domain.todo.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+
+import lombok.Getter;
+
+// (modifiedAt, id) 기준 keyset 페이징 위치. 클라이언트에는 Base64 문자열로만 노출
+@Getter
+public class TodoCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime modifiedAt;
+    private final Long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long id) {
+        this.modifiedAt = modifiedAt;
+        this.id = id;
+    }
+
+    public static TodoCursor from(Todo todo) {
+        return new TodoCursor(todo.getModifiedAt(), todo.getId());
+    }
+
+    public static TodoCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.indexOf(DELIMITER);
+            return new TodoCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.valueOf(decoded.substring(delimiterIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("유효하지 않은 cursor입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = modifiedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,18 +3,25 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_weather_pending", columnList = "weather_pending, id"),
+        @Index(name = "idx_todos_weather_modified_at", columnList = "weather, modified_at"),
+        @Index(name = "idx_todos_modified_at", columnList = "modified_at")
+})
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,6 +29,16 @@ public class Todo extends Timestamped {
     private String title;
     private String contents;
     private String weather;
+    private boolean weatherPending;
+
+    // 담당자/댓글 등록 시 DB에서 직접 증감하므로 엔티티 변경 감지로는 덮어쓰지 않음
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long managerCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -33,11 +50,31 @@ public class Todo extends Timestamped {
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
     private List<Manager> managers = new ArrayList<>();
 
+    // 제목 부분 검색용 trigram 역색인 (todo_title_trigrams 테이블)
+    @ElementCollection
+    @CollectionTable(name = "todo_title_trigrams", joinColumns = @JoinColumn(name = "todo_id"),
+            indexes = @Index(name = "idx_todo_title_trigrams_trigram", columnList = "trigram, todo_id"))
+    @Column(name = "trigram", length = TodoTitleTrigrams.MAX_GRAM_LENGTH, nullable = false)
+    private Set<String> titleTrigrams = new HashSet<>();
+
     public Todo(String title, String contents, String weather, User user) {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
+        indexTitle();
+    }
+
+    public static Todo withPendingWeather(String title, String contents, User user) {
+        Todo todo = new Todo(title, contents, null, user);
+        todo.weatherPending = true;
+        return todo;
+    }
+
+    public void indexTitle() {
+        this.titleTrigrams.clear();
+        this.titleTrigrams.addAll(TodoTitleTrigrams.extract(title));
     }
 }
@@ -0,0 +1,41 @@
+package org.example.expert.domain.todo.entity;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class TodoTitleTrigrams {
+
+    public static final int GRAM_SIZE = 3;
+    // 글자 수를 UTF-16 단위로 세는 DB(H2 등)에서도 이모지 등 보조 문자 3개가 들어가도록 함
+    public static final int MAX_GRAM_LENGTH = GRAM_SIZE * 2;
+
+    private static final Pattern MARKS_AND_FORMATS = Pattern.compile("[\\p{M}\\p{Cf}]+");
+
+    private TodoTitleTrigrams() {
+    }
+
+    // 정규화한 뒤 코드 포인트 기준으로 3글자씩 잘라냄 (3글자 미만이면 빈 Set)
+    public static Set<String> extract(String text) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        if (text == null) {
+            return trigrams;
+        }
+        int[] codePoints = normalize(text).codePoints().toArray();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            trigrams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return trigrams;
+    }
+
+    // trigram 컬럼의 collation(MySQL *_ai_ci)은 대소문자와 악센트를 구분하지 않으므로 Java에서도 같게 맞춤
+    // 다르게 두면 Java에서는 다른 trigram("abc", "ABÇ")이 DB에서는 같은 값이 되어 컬렉션 PK가 충돌함
+    // 호환 문자(전각 등)와 악센트는 NFKD로 분해해서 결합 문자를 지우고, 한글 음절은 NFC로 다시 조합함
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFKD);
+        String stripped = MARKS_AND_FORMATS.matcher(decomposed).replaceAll("");
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.todo.enums;
+
+import java.util.Arrays;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TodoExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static TodoExportFormat of(String format) {
+        return Arrays.stream(TodoExportFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 export 형식입니다."));
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.expert.domain.todo.enums;
+
+public enum WeatherEnrichmentMode {
+    SYNC,   // 저장 전에 날씨 조회
+    ASYNC   // 먼저 저장하고 백그라운드에서 날씨 채움
+}
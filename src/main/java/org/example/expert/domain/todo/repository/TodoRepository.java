@@ -1,25 +1,54 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
 
-	@Query(value = "SELECT t FROM Todo t LEFT JOIN FETCH t.user u "
-		+ "WHERE (:weather IS NULL OR t.weather = :weather) "
-		+ "AND (:start IS NULL OR :start <= t.modifiedAt) "
-		+ "AND (:end IS NULL OR t.modifiedAt < :end) "
-		+ "ORDER BY t.modifiedAt DESC",
-		countQuery = "SELECT COUNT(t) FROM Todo t "
-			+ "WHERE (:weather IS NULL OR t.weather = :weather) "
-			+ "AND (:start IS NULL OR :start <= t.modifiedAt) "
-			+ "AND (:end IS NULL OR t.modifiedAt < :end) " )
-	Page<Todo> findByConditionOrderByModifiedAtDesc(@Param("weather") String weather, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end, Pageable pageable);
+	List<Todo> findByWeatherPendingTrueAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+	// bulk update는 Auditing을 거치지 않으므로 modifiedAt(목록 정렬 기준)이 바뀌지 않음
+	@Modifying
+	@Query("UPDATE Todo t SET t.weather = :weather, t.weatherPending = false "
+		+ "WHERE t.id IN :todoIds AND t.weatherPending = true")
+	int fillPendingWeather(@Param("weather") String weather, @Param("todoIds") List<Long> todoIds);
+
+	@Modifying
+	@Query("UPDATE Todo t SET t.managerCount = t.managerCount + 1 WHERE t.id = :todoId")
+	int increaseManagerCount(@Param("todoId") Long todoId);
+
+	@Modifying
+	@Query("UPDATE Todo t SET t.managerCount = t.managerCount - 1 WHERE t.id = :todoId AND t.managerCount > 0")
+	int decreaseManagerCount(@Param("todoId") Long todoId);
+
+	@Modifying
+	@Query("UPDATE Todo t SET t.commentCount = t.commentCount + 1 WHERE t.id = :todoId")
+	int increaseCommentCount(@Param("todoId") Long todoId);
+
+	// trigram 역색인이 도입되기 전에 저장된 일정
+	// 정규화 후 3글자 미만인 제목은 색인해도 계속 비어 있으므로 id 커서로 건너뜀
+	// LENGTH는 DB에 따라 UTF-16 단위나 바이트 수를 세지만 코드 포인트 수보다 작지는 않아서 확실히 짧은 제목만 걸러냄
+	@Query("SELECT t FROM Todo t WHERE t.id > :afterId AND t.titleTrigrams IS EMPTY AND LENGTH(t.title) >= 3 ORDER BY t.id")
+	List<Todo> findTitleNotIndexedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+	@Query("SELECT MAX(t.id) FROM Todo t")
+	Long findMaxId();
+
+	// 실제 담당자/댓글 수와 다른 행만 갱신
+	@Modifying
+	@Query(value = "UPDATE todos t SET "
+		+ "manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id), "
+		+ "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) "
+		+ "WHERE t.id BETWEEN :fromId AND :toId "
+		+ "AND (t.manager_count <> (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id) "
+		+ "OR t.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id))",
+		nativeQuery = true)
+	int reconcileCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
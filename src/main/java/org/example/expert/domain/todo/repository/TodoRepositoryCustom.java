@@ -1,7 +1,9 @@
 package org.example.expert.domain.todo.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
@@ -13,4 +15,10 @@ public interface TodoRepositoryCustom {
 	Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
 	Page<TodoSearchResponse> searchTodosOrderByCreatedAtDesc(String title, LocalDateTime startTime, LocalDateTime endTimeExclusive, String managerNickname, Pageable pageable);
+
+	Page<Todo> findByConditionOrderByModifiedAtDesc(String weather, LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+	List<Todo> findByConditionAfterCursor(String weather, LocalDateTime start, LocalDateTime end, LocalDateTime cursorModifiedAt, Long cursorId, int limit);
+
+	Stream<Todo> streamByConditionOrderByModifiedAtDesc(String weather, LocalDateTime start, LocalDateTime end, int fetchSize);
 }
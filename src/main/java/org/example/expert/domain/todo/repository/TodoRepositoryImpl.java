@@ -2,21 +2,32 @@ package org.example.expert.domain.todo.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.example.expert.domain.todo.entity.QTodo.todo;
 import static org.example.expert.domain.user.entity.QUser.user;
 import static org.example.expert.domain.manager.entity.QManager.manager;
-import static org.example.expert.domain.comment.entity.QComment.comment;
 
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.QTodo;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoTitleTrigrams;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 
-import com.querydsl.core.types.Projections;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -39,44 +50,167 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
 	@Override
 	public Page<TodoSearchResponse> searchTodosOrderByCreatedAtDesc(String title, LocalDateTime startTime,
 		LocalDateTime endTimeExclusive, String managerNickname, Pageable pageable) {
-		List<TodoSearchResponse> todos = jpaQueryFactory.select(Projections.constructor(
-				TodoSearchResponse.class,
-				todo.title,
-				manager.id.countDistinct(),
-				comment.id.countDistinct()
-			))
+		// 담당자/댓글 수는 todos 행의 카운터 컬럼에서 바로 읽음 (담당자 닉네임은 EXISTS로 확인)
+		List<Tuple> pageTodos = jpaQueryFactory.select(todo.id, todo.title, todo.managerCount, todo.commentCount)
 			.from(todo)
-			.leftJoin(todo.managers, manager)
-			.leftJoin(manager.user, user)
-			.leftJoin(todo.comments, comment)
 			.where(
 				containTitle(title),
 				afterStartTime(startTime),
 				beforeEndTimeExclusive(endTimeExclusive),
-				containManagerNickname(managerNickname)
+				existsManagerNickname(managerNickname)
 			)
-			.groupBy(todo.id, todo.title)
-			.orderBy(todo.createdAt.desc())
+			.orderBy(todo.createdAt.desc(), todo.id.desc())
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
 
-		Long total = jpaQueryFactory.select(todo.id.countDistinct())
+		Long total = jpaQueryFactory.select(todo.count())
 			.from(todo)
-			.leftJoin(todo.managers, manager)
-			.leftJoin(manager.user, user)
 			.where(
 				containTitle(title),
 				afterStartTime(startTime),
 				beforeEndTimeExclusive(endTimeExclusive),
-				containManagerNickname(managerNickname)
+				existsManagerNickname(managerNickname)
 			)
 			.fetchOne();
-		return new PageImpl<>(todos, pageable, total == null ? 0: total);
+
+		// 닉네임 조건이 있으면 기존 결과와 동일하게 조건에 맞는 담당자만 세야 하므로 해당 페이지만 따로 집계
+		Map<Long, Long> matchingManagerCounts = (managerNickname == null || managerNickname.isBlank() || pageTodos.isEmpty())
+			? null
+			: countMatchingManagersByTodoId(pageTodos.stream().map(tuple -> tuple.get(todo.id)).toList(), managerNickname);
+
+		List<TodoSearchResponse> todos = pageTodos.stream()
+			.map(tuple -> new TodoSearchResponse(
+				tuple.get(todo.title),
+				matchingManagerCounts == null
+					? tuple.get(todo.managerCount)
+					: matchingManagerCounts.getOrDefault(tuple.get(todo.id), 0L),
+				tuple.get(todo.commentCount)
+			))
+			.toList();
+		return new PageImpl<>(todos, pageable, total == null ? 0 : total);
+	}
+
+	private Map<Long, Long> countMatchingManagersByTodoId(List<Long> todoIds, String managerNickname) {
+		return jpaQueryFactory.select(manager.todo.id, manager.count())
+			.from(manager)
+			.join(manager.user, user)
+			.where(
+				manager.todo.id.in(todoIds),
+				containManagerNickname(managerNickname)
+			)
+			.groupBy(manager.todo.id)
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(tuple -> tuple.get(manager.todo.id), tuple -> tuple.get(manager.count())));
+	}
+
+	// 값이 있는 조건만 where 절에 넣어 (weather, modified_at) / (modified_at) 인덱스를 탈 수 있게 함
+	@Override
+	public Page<Todo> findByConditionOrderByModifiedAtDesc(String weather, LocalDateTime start, LocalDateTime end,
+		Pageable pageable) {
+		List<Todo> todos = jpaQueryFactory
+			.selectFrom(todo)
+			.leftJoin(todo.user, user)
+			.fetchJoin()
+			.where(
+				weatherEq(weather),
+				modifiedAfterStart(start),
+				modifiedBeforeEndExclusive(end)
+			)
+			.orderBy(todo.modifiedAt.desc(), todo.id.desc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+
+		JPAQuery<Long> countQuery = jpaQueryFactory.select(todo.count())
+			.from(todo)
+			.where(
+				weatherEq(weather),
+				modifiedAfterStart(start),
+				modifiedBeforeEndExclusive(end)
+			);
+		return PageableExecutionUtils.getPage(todos, pageable, countQuery::fetchOne);
+	}
+
+	@Override
+	public List<Todo> findByConditionAfterCursor(String weather, LocalDateTime start, LocalDateTime end,
+		LocalDateTime cursorModifiedAt, Long cursorId, int limit) {
+		return jpaQueryFactory
+			.selectFrom(todo)
+			.leftJoin(todo.user, user)
+			.fetchJoin()
+			.where(
+				weatherEq(weather),
+				modifiedAfterStart(start),
+				modifiedBeforeEndExclusive(end),
+				beforeCursor(cursorModifiedAt, cursorId)
+			)
+			.orderBy(todo.modifiedAt.desc(), todo.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public Stream<Todo> streamByConditionOrderByModifiedAtDesc(String weather, LocalDateTime start, LocalDateTime end,
+		int fetchSize) {
+		// 결과를 한 번에 올리지 않고 fetchSize 단위로 읽어옴 (MySQL은 useCursorFetch=true 필요)
+		return jpaQueryFactory
+			.selectFrom(todo)
+			.leftJoin(todo.user, user)
+			.fetchJoin()
+			.where(
+				weatherEq(weather),
+				modifiedAfterStart(start),
+				modifiedBeforeEndExclusive(end)
+			)
+			.orderBy(todo.modifiedAt.desc(), todo.id.desc())
+			.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+			.setHint(HibernateHints.HINT_READ_ONLY, true)
+			.stream();
+	}
+
+	private BooleanExpression weatherEq(String weather){
+		return (weather == null) ? null : todo.weather.eq(weather);
 	}
 
+	private BooleanExpression modifiedAfterStart(LocalDateTime start){
+		return (start == null) ? null : todo.modifiedAt.goe(start);
+	}
+
+	private BooleanExpression modifiedBeforeEndExclusive(LocalDateTime end){
+		return (end == null) ? null : todo.modifiedAt.lt(end);
+	}
+
+	private BooleanExpression beforeCursor(LocalDateTime cursorModifiedAt, Long cursorId){
+		if (cursorModifiedAt == null || cursorId == null) {
+			return null;
+		}
+		return todo.modifiedAt.lt(cursorModifiedAt)
+			.or(todo.modifiedAt.eq(cursorModifiedAt).and(todo.id.lt(cursorId)));
+	}
+
+	// 검색어의 trigram을 모두 가진 일정으로 후보를 먼저 좁힌 뒤 실제 포함 여부를 확인
 	private BooleanExpression containTitle(String title){
-		return (title == null || title.isBlank())? null : todo.title.containsIgnoreCase(title);
+		if (title == null || title.isBlank()) {
+			return null;
+		}
+		Set<String> trigrams = TodoTitleTrigrams.extract(title);
+		if (trigrams.isEmpty()) {
+			return todo.title.containsIgnoreCase(title);
+		}
+
+		QTodo indexedTodo = new QTodo("indexedTodo");
+		StringPath trigram = Expressions.stringPath("trigram");
+		return todo.id.in(
+				JPAExpressions.select(indexedTodo.id)
+					.from(indexedTodo)
+					.join(indexedTodo.titleTrigrams, trigram)
+					.where(trigram.in(trigrams))
+					.groupBy(indexedTodo.id)
+					.having(trigram.countDistinct().eq((long) trigrams.size()))
+			)
+			.and(todo.title.containsIgnoreCase(title));
 	}
 
 	private BooleanExpression afterStartTime(LocalDateTime startTime){
@@ -87,6 +221,20 @@ public class TodoRepositoryImpl implements TodoRepositoryCustom {
 		return (endTimeExclusive == null) ? null : todo.createdAt.lt(endTimeExclusive);
 	}
 
+	private BooleanExpression existsManagerNickname(String managerNickname){
+		if (managerNickname == null || managerNickname.isBlank()) {
+			return null;
+		}
+		return JPAExpressions.selectOne()
+			.from(manager)
+			.join(manager.user, user)
+			.where(
+				manager.todo.id.eq(todo.id),
+				containManagerNickname(managerNickname)
+			)
+			.exists();
+	}
+
 	private BooleanExpression containManagerNickname(String managerNickname){
 		return (managerNickname == null || managerNickname.isBlank())? null : user.nickname.containsIgnoreCase(managerNickname);
 	}
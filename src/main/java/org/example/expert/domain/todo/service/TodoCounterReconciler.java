@@ -0,0 +1,36 @@
+package org.example.expert.domain.todo.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCounterReconciler {
+	private final TodoService todoService;
+
+	@Value("${todo.counter.reconcile.chunk-size:10000}")
+	private int chunkSize;
+
+	// 담당자/댓글 수 컬럼이 실제 행 수와 어긋난 경우 id 구간별로 나눠서 바로잡음
+	@Scheduled(fixedDelayString = "${todo.counter.reconcile.interval:PT1H}",
+		initialDelayString = "${todo.counter.reconcile.initial-delay:PT1M}")
+	public void reconcileCounts() {
+		long maxId = todoService.findMaxTodoId();
+		int repaired = 0;
+		try {
+			for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+				repaired += todoService.reconcileCounts(fromId, fromId + chunkSize - 1);
+			}
+		} catch (RuntimeException e) {
+			log.warn("Todo 담당자/댓글 수 보정 실패: {}", e.getMessage());
+		}
+		if (repaired > 0) {
+			log.info("Todo 담당자/댓글 수 보정: {}건", repaired);
+		}
+	}
+}
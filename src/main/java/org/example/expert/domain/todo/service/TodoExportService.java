@@ -0,0 +1,113 @@
+package org.example.expert.domain.todo.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.example.expert.domain.common.annotation.MeasureLatency;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@MeasureLatency
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoExportService {
+
+    private static final String CSV_HEADER = "id,title,contents,weather,userId,userEmail,createdAt,modifiedAt\n";
+
+    private final TodoRepository todoRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${todo.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${todo.export.clear-interval:1000}")
+    private int clearInterval;
+
+    // 한 행씩 읽어서 바로 쓰고, 영속성 컨텍스트를 주기적으로 비워 건수와 관계없이 메모리 사용량을 일정하게 유지
+    public void exportTodos(LocalDate start, LocalDate end, String weather, TodoExportFormat format, OutputStream outputStream) throws IOException {
+        LocalDateTime startTime = start==null ? null : start.atStartOfDay();
+        LocalDateTime endTimeExclusive = end==null ? null : end.plusDays(1).atStartOfDay();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == TodoExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        try (Stream<Todo> todos = todoRepository.streamByConditionOrderByModifiedAtDesc(weather, startTime, endTimeExclusive, fetchSize)) {
+            Iterator<Todo> iterator = todos.iterator();
+            long count = 0;
+            while (iterator.hasNext()) {
+                TodoResponse todoResponse = toTodoResponse(iterator.next());
+                if (format == TodoExportFormat.CSV) {
+                    writeCsvRow(writer, todoResponse);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(todoResponse));
+                    writer.write('\n');
+                }
+
+                if (++count % clearInterval == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, TodoResponse todoResponse) throws IOException {
+        writer.write(String.join(",",
+                String.valueOf(todoResponse.getId()),
+                escapeCsv(todoResponse.getTitle()),
+                escapeCsv(todoResponse.getContents()),
+                escapeCsv(todoResponse.getWeather()),
+                String.valueOf(todoResponse.getUser().getId()),
+                escapeCsv(todoResponse.getUser().getEmail()),
+                String.valueOf(todoResponse.getCreatedAt()),
+                String.valueOf(todoResponse.getModifiedAt())
+        ));
+        writer.write('\n');
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private TodoResponse toTodoResponse(Todo todo) {
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                todo.getCreatedAt(),
+                todo.getModifiedAt()
+        );
+    }
+}
@@ -3,45 +3,70 @@ package org.example.expert.domain.todo.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.annotation.MeasureLatency;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherEnrichmentMode;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
+@MeasureLatency
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${todo.weather.enrichment.mode:SYNC}")
+    private WeatherEnrichmentMode weatherEnrichmentMode;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
-
-        Todo newTodo = new Todo(
-                todoSaveRequest.getTitle(),
-                todoSaveRequest.getContents(),
-                weather,
-                user
-        );
+        Todo newTodo;
+        String weather = null;
+        if (weatherEnrichmentMode == WeatherEnrichmentMode.ASYNC) {
+            newTodo = Todo.withPendingWeather(todoSaveRequest.getTitle(), todoSaveRequest.getContents(), user);
+        } else {
+            weather = weatherClient.getTodayWeather();
+            newTodo = new Todo(
+                    todoSaveRequest.getTitle(),
+                    todoSaveRequest.getContents(),
+                    weather,
+                    user
+            );
+        }
         Todo savedTodo = todoRepository.save(newTodo);
 
         return new TodoSaveResponse(
@@ -59,15 +84,32 @@ public class TodoService {
         LocalDateTime endTimeExclusive = end==null ? null : end.plusDays(1).atStartOfDay();
         Page<Todo> todos = todoRepository.findByConditionOrderByModifiedAtDesc(weather, startTime, endTimeExclusive, pageable);
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todos.map(this::toTodoResponse);
+    }
+
+    // count 쿼리 없이 (modifiedAt, id) 기준으로 다음 페이지를 조회
+    public CursorPageResponse<TodoResponse> getTodosByCursor(String cursor, int size, LocalDate start, LocalDate end, String weather) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        TodoCursor after = TodoCursor.decode(cursor);
+        LocalDateTime startTime = start==null ? null : start.atStartOfDay();
+        LocalDateTime endTimeExclusive = end==null ? null : end.plusDays(1).atStartOfDay();
+
+        List<Todo> todos = todoRepository.findByConditionAfterCursor(
+                weather,
+                startTime,
+                endTimeExclusive,
+                after == null ? null : after.getModifiedAt(),
+                after == null ? null : after.getId(),
+                size + 1
+        );
+
+        boolean hasNext = todos.size() > size;
+        List<Todo> pageTodos = hasNext ? todos.subList(0, size) : todos;
+        String nextCursor = hasNext ? TodoCursor.from(pageTodos.get(size - 1)).encode() : null;
+
+        return new CursorPageResponse<>(pageTodos.stream().map(this::toTodoResponse).toList(), nextCursor);
     }
 
     public TodoResponse getTodo(long todoId) {
@@ -93,4 +135,86 @@ public class TodoService {
         LocalDateTime endTimeExclusive = end==null ? null : end.plusDays(1).atStartOfDay();
 		return todoRepository.searchTodosOrderByCreatedAtDesc(title, startTime, endTimeExclusive, managerNickname, pageable);
     }
+
+    // 날씨를 찾지 못한 작성일의 Todo는 pending으로 남겨두고 나머지만 채움 (한 날짜 때문에 배치 전체가 롤백되지 않도록)
+    // afterTodoId 이후부터 조회하므로 호출하는 쪽은 남겨진 Todo를 건너뛰고 다음 배치로 넘어갈 수 있음
+    // 날씨 조회는 타임아웃이 있는 외부 호출이므로 트랜잭션 밖에서 먼저 끝내고, 갱신할 때만 커넥션을 잡음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PendingWeatherBatch fillPendingWeather(long afterTodoId, int batchSize) {
+        List<Todo> pendingTodos = todoRepository.findByWeatherPendingTrueAndIdGreaterThanOrderByIdAsc(
+                afterTodoId, PageRequest.of(0, batchSize));
+
+        // 날씨는 작성일 기준이므로 작성일별로 묶어서 한 번씩만 조회
+        Map<LocalDate, List<Long>> todoIdsByDate = new LinkedHashMap<>();
+        for (Todo todo : pendingTodos) {
+            LocalDate createdDate = todo.getCreatedAt() == null ? LocalDate.now() : todo.getCreatedAt().toLocalDate();
+            todoIdsByDate.computeIfAbsent(createdDate, date -> new ArrayList<>()).add(todo.getId());
+        }
+
+        int skipped = 0;
+        Map<String, List<Long>> todoIdsByWeather = new LinkedHashMap<>();
+        for (Map.Entry<LocalDate, List<Long>> entry : todoIdsByDate.entrySet()) {
+            String weather;
+            try {
+                weather = weatherClient.getWeather(entry.getKey());
+            } catch (RuntimeException e) {
+                skipped += entry.getValue().size();
+                log.warn("{} 날씨 조회 실패, Todo {}건은 다음 실행에 다시 시도: {}", entry.getKey(), entry.getValue().size(), e.getMessage());
+                continue;
+            }
+            todoIdsByWeather.computeIfAbsent(weather, key -> new ArrayList<>()).addAll(entry.getValue());
+        }
+
+        if (!todoIdsByWeather.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    todoIdsByWeather.forEach(todoRepository::fillPendingWeather));
+        }
+
+        long lastTodoId = pendingTodos.isEmpty() ? afterTodoId : pendingTodos.get(pendingTodos.size() - 1).getId();
+        return new PendingWeatherBatch(pendingTodos.size(), skipped, lastTodoId);
+    }
+
+    // 색인해도 trigram이 나오지 않는 제목은 그대로 남으므로 afterTodoId 이후부터 조회해서 같은 행을 다시 읽지 않음
+    @Transactional
+    public TitleIndexBatch indexTitles(long afterTodoId, int batchSize) {
+        List<Todo> todos = todoRepository.findTitleNotIndexedAfter(afterTodoId, PageRequest.of(0, batchSize));
+        int indexed = 0;
+        for (Todo todo : todos) {
+            todo.indexTitle();
+            if (!todo.getTitleTrigrams().isEmpty()) {
+                indexed++;
+            }
+        }
+
+        long lastTodoId = todos.isEmpty() ? afterTodoId : todos.get(todos.size() - 1).getId();
+        return new TitleIndexBatch(todos.size(), indexed, lastTodoId);
+    }
+
+    @Transactional
+    public int reconcileCounts(long fromId, long toId) {
+        return todoRepository.reconcileCounts(fromId, toId);
+    }
+
+    public long findMaxTodoId() {
+        Long maxId = todoRepository.findMaxId();
+        return maxId == null ? 0 : maxId;
+    }
+
+    private TodoResponse toTodoResponse(Todo todo) {
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                todo.getCreatedAt(),
+                todo.getModifiedAt()
+        );
+    }
+
+    public record PendingWeatherBatch(int size, int skipped, long lastTodoId) {
+    }
+
+    public record TitleIndexBatch(int size, int indexed, long lastTodoId) {
+    }
 }
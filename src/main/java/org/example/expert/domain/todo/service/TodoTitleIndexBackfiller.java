@@ -0,0 +1,46 @@
+package org.example.expert.domain.todo.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoTitleIndexBackfiller {
+	private final TodoService todoService;
+
+	@Value("${todo.title-index.backfill.enabled:true}")
+	private boolean enabled;
+
+	@Value("${todo.title-index.backfill.batch-size:1000}")
+	private int batchSize;
+
+	// 제목 trigram 색인이 없는 기존 일정을 시작 시점에 채워서 제목 검색에서 누락되지 않도록 함
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillTitleIndex() {
+		if (!enabled) {
+			return;
+		}
+
+		long indexed = 0;
+		try {
+			long afterTodoId = 0;
+			TodoService.TitleIndexBatch batch;
+			do {
+				batch = todoService.indexTitles(afterTodoId, batchSize);
+				indexed += batch.indexed();
+				afterTodoId = batch.lastTodoId();
+			} while (batch.size() == batchSize);
+		} catch (RuntimeException e) {
+			log.warn("Todo 제목 색인 채우기 실패: {}", e.getMessage());
+		}
+		if (indexed > 0) {
+			log.info("Todo 제목 색인 채우기: {}건", indexed);
+		}
+	}
+}
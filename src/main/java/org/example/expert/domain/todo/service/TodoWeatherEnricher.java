@@ -0,0 +1,80 @@
+package org.example.expert.domain.todo.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoWeatherEnricher {
+	private final TodoService todoService;
+
+	@Value("${todo.weather.enrichment.batch-size:100}")
+	private int batchSize;
+
+	@Value("${todo.weather.enrichment.max-batches-per-run:10}")
+	private int maxBatchesPerRun;
+
+	@Value("${todo.weather.enrichment.initial-backoff:PT1S}")
+	private Duration initialBackoff;
+
+	@Value("${todo.weather.enrichment.max-backoff:PT5M}")
+	private Duration maxBackoff;
+
+	private int consecutiveFailures;
+	private Instant nextAttemptAt = Instant.EPOCH;
+
+	@Scheduled(fixedDelayString = "${todo.weather.enrichment.interval:PT5S}")
+	public void enrichPendingTodos() {
+		if (Instant.now().isBefore(nextAttemptAt)) {
+			return;
+		}
+
+		int filled = 0;
+		int skipped = 0;
+		try {
+			// 날씨를 찾지 못해 남겨진 Todo는 id 커서로 건너뛰고 다음 실행에서 처음부터 다시 시도함
+			long afterTodoId = 0;
+			for (int i = 0; i < maxBatchesPerRun; i++) {
+				TodoService.PendingWeatherBatch batch = todoService.fillPendingWeather(afterTodoId, batchSize);
+				filled += batch.size() - batch.skipped();
+				skipped += batch.skipped();
+				if (batch.size() < batchSize) {
+					break;
+				}
+				afterTodoId = batch.lastTodoId();
+			}
+		} catch (RuntimeException e) {
+			backOff(e.getMessage());
+			return;
+		}
+
+		// 날짜별 조회 실패는 배치 안에서 삼켜지므로 하나도 채우지 못하고 건너뛰기만 했으면 외부 장애로 보고 물러남
+		// 실패 횟수는 실제로 채운 Todo가 있을 때만 초기화함
+		if (filled > 0) {
+			consecutiveFailures = 0;
+		} else if (skipped > 0) {
+			backOff("날씨를 채우지 못한 Todo " + skipped + "건");
+		}
+	}
+
+	private void backOff(String reason) {
+		consecutiveFailures++;
+		Duration backoff = calculateBackoff();
+		nextAttemptAt = Instant.now().plus(backoff);
+		log.warn("Todo 날씨 채우기 실패 ({}회 연속), {} 후 재시도: {}", consecutiveFailures, backoff, reason);
+	}
+
+	private Duration calculateBackoff() {
+		int exponent = Math.min(consecutiveFailures - 1, 20);
+		Duration backoff = initialBackoff.multipliedBy(1L << exponent);
+		return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+	}
+}
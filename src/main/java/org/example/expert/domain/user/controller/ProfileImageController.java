@@ -1,6 +1,7 @@
 package org.example.expert.domain.user.controller;
 
 import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.annotation.MeasureLatency;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.dto.response.ProfileImageDownloadResponse;
 import org.example.expert.domain.user.dto.response.ProfileImageUploadResponse;
@@ -21,6 +22,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
 
+@MeasureLatency
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/users")
@@ -1,21 +1,48 @@
 package org.example.expert.domain.user.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.MeasureLatency;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.enums.UserImportFormat;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserImportService;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+
+@MeasureLatency
 @RestController
 @RequiredArgsConstructor
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserImportService userImportService;
 
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    // multipart로 받으면 파일 전체가 임시 저장되므로 요청 본문을 그대로 스트림으로 읽음
+    @PostMapping("/admin/users/import")
+    public UserImportResponse importUsers(
+            @RequestParam String importId,
+            @RequestParam(defaultValue = "csv") String format,
+            InputStream inputStream
+    ) throws IOException {
+        return userImportService.importUsers(importId, UserImportFormat.of(format), inputStream);
+    }
+
+    @GetMapping("/admin/users/import/{importId}")
+    public UserImportResponse getImport(@PathVariable String importId) {
+        return userImportService.getImport(importId);
+    }
 }
@@ -4,6 +4,8 @@ import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.annotation.MeasureLatency;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserNicknameResponse;
@@ -13,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+@MeasureLatency
 @RestController
 @RequiredArgsConstructor
 public class UserController {
@@ -30,8 +33,17 @@ public class UserController {
     }
 
     @GetMapping("/users/search")
-    public ResponseEntity<List<UserNicknameResponse>> searchUsers(
-        @RequestParam String nickname) {
-        return ResponseEntity.ok(userService.searchUsersByNickname(nickname));
+    public ResponseEntity<CursorPageResponse<UserNicknameResponse>> searchUsers(
+        @RequestParam String nickname,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(userService.searchUsersByNickname(nickname, cursor, size));
+    }
+
+    @GetMapping("/users/search/prefix")
+    public ResponseEntity<List<UserNicknameResponse>> searchUsersByPrefix(
+        @RequestParam String prefix,
+        @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(userService.searchUsersByNicknamePrefix(prefix, size));
     }
 }
@@ -0,0 +1,44 @@
+package org.example.expert.domain.user.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
+
+import lombok.Getter;
+
+// 같은 정규화 닉네임 안에서 id 기준 keyset 페이징 위치
+// 이전 형식(id|nickname)으로 발급된 cursor도 앞의 id만 읽어서 그대로 이어감
+@Getter
+public class UserCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final Long id;
+
+    public UserCursor(Long id) {
+        this.id = id;
+    }
+
+    public static UserCursor from(UserNicknameResponse user) {
+        return new UserCursor(user.getId());
+    }
+
+    public static UserCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.indexOf(DELIMITER);
+            return new UserCursor(Long.valueOf(delimiterIndex < 0 ? decoded : decoded.substring(0, delimiterIndex)));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("유효하지 않은 cursor입니다.");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+}
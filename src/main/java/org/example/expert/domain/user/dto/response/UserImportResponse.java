@@ -0,0 +1,34 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.entity.UserImportCheckpoint;
+import org.example.expert.domain.user.enums.UserImportStatus;
+
+@Getter
+public class UserImportResponse {
+
+    private final String importId;
+    private final UserImportStatus status;
+    private final long processedLines;
+    private final long importedCount;
+    private final long duplicateCount;
+    private final long invalidCount;
+    // 이번 요청에서 처리한 구간 기준 (진행 상황 조회 시에는 0)
+    private final long elapsedMillis;
+    private final double linesPerSecond;
+
+    public UserImportResponse(UserImportCheckpoint checkpoint, long elapsedMillis, long linesThisRun) {
+        this.importId = checkpoint.getImportId();
+        this.status = checkpoint.getStatus();
+        this.processedLines = checkpoint.getProcessedLines();
+        this.importedCount = checkpoint.getImportedCount();
+        this.duplicateCount = checkpoint.getDuplicateCount();
+        this.invalidCount = checkpoint.getInvalidCount();
+        this.elapsedMillis = elapsedMillis;
+        this.linesPerSecond = elapsedMillis == 0 ? 0 : linesThisRun * 1000.0 / elapsedMillis;
+    }
+
+    public static UserImportResponse from(UserImportCheckpoint checkpoint) {
+        return new UserImportResponse(checkpoint, 0, 0);
+    }
+}
@@ -6,11 +6,17 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.Locale;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 같은 정규화 닉네임 안에서 id 순으로 읽고 limit에서 멈추도록 id를 두 번째에 두고, 인덱스만으로 끝나도록 nickname까지 포함
+        @Index(name = "idx_users_nickname_normalized", columnList = "nickname_normalized, id, nickname")
+})
 public class User extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -19,14 +25,21 @@ public class User extends Timestamped {
     private String email;
     private String password;
     private String nickname;
+    // 대소문자 구분 없는 검색용, lower(nickname)으로 비교하면 인덱스를 탈 수 없으므로 정규화한 값을 따로 저장
+    private String nicknameNormalized;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
     private String profileImageKey;
+    // 토큰에 담긴 정보가 바뀌면 올려서 이전에 발급한 토큰을 무효화
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long tokenVersion;
 
     public User(String email, String password, String nickname, UserRole userRole) {
         this.email = email;
         this.password = password;
         this.nickname = nickname;
+        this.nicknameNormalized = normalizeNickname(nickname);
         this.userRole = userRole;
     }
 
@@ -49,6 +62,19 @@ public class User extends Timestamped {
         this.userRole = userRole;
     }
 
+    // 정규화 컬럼 도입 전에 저장된 유저 채우기용
+    public void normalizeNickname() {
+        this.nicknameNormalized = normalizeNickname(nickname);
+    }
+
+    public static String normalizeNickname(String nickname) {
+        return nickname == null ? null : nickname.toLowerCase(Locale.ROOT);
+    }
+
+    public void increaseTokenVersion() {
+        this.tokenVersion++;
+    }
+
     public void updateProfileImageKey(String key) { this.profileImageKey = key; }
 
 	public void removeProfileImage() { this.profileImageKey = null; }
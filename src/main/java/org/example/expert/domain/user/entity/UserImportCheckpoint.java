@@ -0,0 +1,42 @@
+package org.example.expert.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.user.enums.UserImportStatus;
+
+// 유저 import 진행 위치, 유저 insert 배치와 같은 트랜잭션에서 갱신되므로 중단되면 마지막 커밋 다음 줄부터 이어서 진행
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "user_import_checkpoints")
+public class UserImportCheckpoint extends Timestamped {
+
+    @Id
+    @Column(length = 100)
+    private String importId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserImportStatus status;
+    private long processedLines;
+    private long importedCount;
+    private long duplicateCount;
+    private long invalidCount;
+
+    public UserImportCheckpoint(String importId) {
+        this.importId = importId;
+        this.status = UserImportStatus.IN_PROGRESS;
+    }
+
+    public void advance(long processedLines, long imported, long duplicates, long invalid) {
+        this.processedLines = processedLines;
+        this.importedCount += imported;
+        this.duplicateCount += duplicates;
+        this.invalidCount += invalid;
+    }
+
+    public void complete() {
+        this.status = UserImportStatus.COMPLETED;
+    }
+}
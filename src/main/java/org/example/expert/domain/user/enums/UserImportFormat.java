@@ -0,0 +1,17 @@
+package org.example.expert.domain.user.enums;
+
+import java.util.Arrays;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+public enum UserImportFormat {
+    CSV,
+    NDJSON;
+
+    public static UserImportFormat of(String format) {
+        return Arrays.stream(UserImportFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 import 형식입니다."));
+    }
+}
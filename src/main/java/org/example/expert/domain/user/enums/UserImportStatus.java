@@ -0,0 +1,6 @@
+package org.example.expert.domain.user.enums;
+
+public enum UserImportStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
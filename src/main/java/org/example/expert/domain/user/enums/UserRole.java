@@ -3,6 +3,9 @@ package org.example.expert.domain.user.enums;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -15,11 +18,24 @@ public enum UserRole {
 
     private final String userRole;
 
+    private static final UserRole[] VALUES = values();
+    private static final Map<String, UserRole> BY_NAME = Arrays.stream(VALUES)
+            .collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+
+    // 토큰에 담긴 값은 대문자 그대로이므로 Map 조회로 끝나고, 대소문자가 다를 때만 순회
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UserRole"));
+        if (role != null) {
+            UserRole userRole = BY_NAME.get(role);
+            if (userRole != null) {
+                return userRole;
+            }
+            for (UserRole value : VALUES) {
+                if (value.name().equalsIgnoreCase(role)) {
+                    return value;
+                }
+            }
+        }
+        throw new InvalidRequestException("유효하지 않은 UserRole");
     }
 
     public static class Authority {
@@ -1,11 +1,41 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 이메일 필터 적재용, 전체 유저를 메모리에 올리지 않도록 커서로 읽음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM User u WHERE u.email IS NOT NULL")
+    Stream<String> streamAllEmails();
+
+    // 닉네임 접두어 색인 적재용
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserNicknameResponse(u.id, u.nickname) FROM User u WHERE u.nickname IS NOT NULL")
+    Stream<UserNicknameResponse> streamAllNicknames();
+
+    // 닉네임 스냅샷 재구성/따라잡기용, id 기준으로 이어서 읽음
+    @Query("SELECT new org.example.expert.domain.user.dto.response.UserNicknameResponse(u.id, u.nickname) FROM User u "
+        + "WHERE u.id > :id AND u.nickname IS NOT NULL ORDER BY u.id")
+    List<UserNicknameResponse> findNicknamesAfter(@Param("id") long id, Pageable pageable);
+
+    // 닉네임 정규화 컬럼이 도입되기 전에 저장된 유저
+    @Query("SELECT u FROM User u WHERE u.nicknameNormalized IS NULL AND u.nickname IS NOT NULL ORDER BY u.id")
+    List<User> findNicknameNotNormalized(Pageable pageable);
+
+    boolean existsByNicknameNormalizedIsNullAndNicknameIsNotNull();
 }
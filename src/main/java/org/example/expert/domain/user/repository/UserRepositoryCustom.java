@@ -5,5 +5,5 @@ import java.util.List;
 import org.example.expert.domain.user.dto.response.UserNicknameResponse;
 
 public interface UserRepositoryCustom {
-	List<UserNicknameResponse> searchByNickname(String nickname);
+	List<UserNicknameResponse> searchByNicknameAfterCursor(String nickname, Long cursorId, int limit, boolean includeNotNormalized);
 }
@@ -5,8 +5,10 @@ import static org.example.expert.domain.user.entity.QUser.*;
 import java.util.List;
 
 import org.example.expert.domain.user.dto.response.UserNicknameResponse;
+import org.example.expert.domain.user.entity.User;
 
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -16,14 +18,35 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
 	private final JPAQueryFactory jpaQueryFactory;
 
 	@Override
-	public List<UserNicknameResponse> searchByNickname(String nickname) {
+	public List<UserNicknameResponse> searchByNicknameAfterCursor(String nickname, Long cursorId, int limit, boolean includeNotNormalized) {
+		String nicknameNormalized = User.normalizeNickname(nickname);
 		return jpaQueryFactory.select(Projections.constructor(
 				UserNicknameResponse.class,
 				user.id,
 				user.nickname
 			))
 			.from(user)
-			.where(user.nickname.lower().eq(nickname.toLowerCase()))
+			.where(
+				nicknameEq(nicknameNormalized, includeNotNormalized),
+				afterCursor(cursorId)
+			)
+			// 정규화 값이 모두 같으므로 id만으로 정렬, (nickname_normalized, id, nickname) 인덱스 순서 그대로 읽고 limit에서 멈춤
+			// 콜레이션에 따라 순서가 달라지는 nickname으로 정렬하지 않아서 메모리 스냅샷 조회와 순서가 같음
+			.orderBy(user.id.asc())
+			.limit(limit)
 			.fetch();
 	}
+
+	// 정규화 값을 채우기 전에는 IS NULL 구간도 함께 조회함
+	// 채우기가 끝난 뒤에도 OR를 남겨두면 MySQL이 두 구간(ref_or_null)을 읽고 id 정렬을 filesort로 처리해서 limit에서 멈추지 못함
+	private BooleanExpression nicknameEq(String nicknameNormalized, boolean includeNotNormalized) {
+		BooleanExpression normalizedEq = user.nicknameNormalized.eq(nicknameNormalized);
+		return includeNotNormalized
+			? normalizedEq.or(user.nicknameNormalized.isNull().and(user.nickname.lower().eq(nicknameNormalized)))
+			: normalizedEq;
+	}
+
+	private BooleanExpression afterCursor(Long cursorId) {
+		return cursorId == null ? null : user.id.gt(cursorId);
+	}
 }
@@ -0,0 +1,137 @@
+package org.example.expert.domain.user.service;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 가입된 이메일의 Bloom filter: false면 확실히 없는 이메일, true면 DB 확인이 필요함
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+	private final UserRepository userRepository;
+	private final long expectedInsertions;
+	private final long bitSize;
+	private final int hashCount;
+	private final AtomicLongArray bits;
+	private final Counter absentCounter;
+	private final Counter mightContainCounter;
+	// 적재 전에는 모든 이메일을 "있을 수 있음"으로 취급해서 DB 조회로 넘김
+	private volatile boolean loaded;
+
+	public EmailBloomFilter(
+		UserRepository userRepository,
+		MeterRegistry meterRegistry,
+		@Value("${user.email-filter.expected-insertions:10000000}") long expectedInsertions,
+		@Value("${user.email-filter.false-positive-probability:0.01}") double falsePositiveProbability
+	) {
+		this.userRepository = userRepository;
+		this.expectedInsertions = expectedInsertions;
+		long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		this.bitSize = Math.max(Long.SIZE, (optimalBits + Long.SIZE - 1) / Long.SIZE * Long.SIZE);
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+		this.bits = new AtomicLongArray(Math.toIntExact(bitSize / Long.SIZE));
+		this.absentCounter = Counter.builder("user.email-filter.lookups")
+			.tag("result", "absent")
+			.register(meterRegistry);
+		this.mightContainCounter = Counter.builder("user.email-filter.lookups")
+			.tag("result", "might-contain")
+			.register(meterRegistry);
+	}
+
+	// 적재 중에 가입한 이메일도 put으로 들어오므로 적재가 끝나면 모든 이메일이 반영되어 있음
+	@Transactional(readOnly = true)
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		long count = 0;
+		try (Stream<String> emails = userRepository.streamAllEmails()) {
+			for (String email : (Iterable<String>) emails::iterator) {
+				put(email);
+				count++;
+			}
+		} catch (RuntimeException e) {
+			log.warn("이메일 필터 적재 실패, 가입 시 항상 DB를 조회합니다: {}", e.getMessage());
+			return;
+		}
+		loaded = true;
+
+		if (count > expectedInsertions) {
+			log.warn("이메일 필터 예상 건수({})보다 가입자가 많아 오탐률이 높아집니다: {}건", expectedInsertions, count);
+		}
+		log.info("이메일 필터 적재: {}건", count);
+	}
+
+	public void put(String email) {
+		long hash1 = hash(email);
+		long hash2 = mix(hash1) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			int word = (int) (index >>> 6);
+			long mask = 1L << index;
+			// 이미 켜진 비트는 쓰지 않아서 같은 캐시 라인에 대한 불필요한 쓰기를 줄임
+			if ((bits.get(word) & mask) == 0) {
+				bits.getAndAccumulate(word, mask, (current, bit) -> current | bit);
+			}
+		}
+	}
+
+	public boolean mightContain(String email) {
+		if (!loaded) {
+			return true;
+		}
+		if (!containsAllBits(email)) {
+			absentCounter.increment();
+			return false;
+		}
+		mightContainCounter.increment();
+		return true;
+	}
+
+	private boolean containsAllBits(String email) {
+		long hash1 = hash(email);
+		long hash2 = mix(hash1) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	boolean isLoaded() {
+		return loaded;
+	}
+
+	// DB 비교와 같이 대소문자를 구분하지 않도록 소문자로 맞춘 뒤 FNV-1a 64bit 해시
+	private static long hash(String email) {
+		String key = email.toLowerCase(Locale.ROOT);
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return mix(hash);
+	}
+
+	// murmur3 finalizer: 하위 비트까지 고르게 섞어서 double hashing 인덱스가 몰리지 않도록 함
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb9fe1a85ec53L;
+		value ^= value >>> 33;
+		return value;
+	}
+}
@@ -0,0 +1,472 @@
+package org.example.expert.domain.user.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.Stream;
+
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 닉네임 자동완성용 메모리 색인: 정규화 닉네임 순으로 정렬된 배열을 이진 탐색해서 DB 없이 접두어 상위 K건을 찾음
+// 닉네임마다 String 객체를 두지 않고 UTF-8 바이트를 한 배열에 이어 붙이고 int[] 오프셋, long[] id만 유지함
+// 정렬 순서는 정규화 닉네임의 코드 포인트 순(UTF-8 바이트 순과 같음) -> id 순
+@Slf4j
+@Component
+public class NicknamePrefixIndex {
+
+	private final UserRepository userRepository;
+	private final int compactThreshold;
+	private final int batchSize;
+	private final long catchUpLookback;
+	private final Object writeLock = new Object();
+	// 조회는 락 없이 현재 상태를 읽고, 추가와 압축은 writeLock 안에서 상태를 통째로 바꿈
+	private volatile State state = new State(SortedNicknames.EMPTY, Collections.emptyNavigableSet(), new ConcurrentSkipListSet<>());
+	private volatile boolean loaded;
+	// 따라잡기를 이어서 시작할 위치 (적재와 따라잡기에서 읽은 가장 큰 id)
+	private volatile long lastUserId;
+
+	public NicknamePrefixIndex(
+		UserRepository userRepository,
+		@Value("${user.nickname-prefix.compact-threshold:10000}") int compactThreshold,
+		@Value("${user.nickname-prefix.batch-size:10000}") int batchSize,
+		@Value("${user.nickname-prefix.catch-up-lookback:1000}") long catchUpLookback
+	) {
+		this.userRepository = userRepository;
+		this.compactThreshold = compactThreshold;
+		this.batchSize = batchSize;
+		this.catchUpLookback = catchUpLookback;
+	}
+
+	// 정렬은 DB 콜레이션과 Java 비교 순서가 달라서 애플리케이션에서 함
+	// 유저마다 객체를 만들지 않도록 읽는 대로 바이트 배열에 이어 붙이고, 정렬은 int[] 순번만 바꿔서 함
+	@Transactional(readOnly = true)
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		Builder unsorted = new Builder(1024);
+		// 정렬 키인 정규화 닉네임 UTF-8, 정렬이 끝나면 버림
+		PackedBytes keys = new PackedBytes(1024, 1024 * 12);
+		long maxId = 0;
+		try (Stream<UserNicknameResponse> users = userRepository.streamAllNicknames()) {
+			Iterator<UserNicknameResponse> iterator = users.iterator();
+			while (iterator.hasNext()) {
+				UserNicknameResponse user = iterator.next();
+				byte[] nickname = user.getNickname().getBytes(StandardCharsets.UTF_8);
+				unsorted.append(nickname, 0, nickname.length, user.getId());
+				byte[] key = User.normalizeNickname(user.getNickname()).getBytes(StandardCharsets.UTF_8);
+				keys.append(key, 0, key.length);
+				maxId = Math.max(maxId, user.getId());
+			}
+		} catch (RuntimeException e) {
+			log.warn("닉네임 색인 적재 실패, 접두어 검색을 사용할 수 없습니다: {}", e.getMessage());
+			return;
+		}
+
+		SortedNicknames base = unsorted.sortBy(keys);
+		synchronized (writeLock) {
+			// 적재 중에 가입한 유저는 active에 그대로 둠 (DB에서도 읽혔다면 조회 시 중복 제거됨)
+			state = new State(base, Collections.emptyNavigableSet(), state.active());
+		}
+		lastUserId = maxId;
+		loaded = true;
+		log.info("닉네임 색인 적재: {}건", base.size());
+	}
+
+	// 다른 인스턴스의 가입과 bulk import는 add 훅으로 들어오지 않으므로 주기적으로 id 순서대로 따라잡음
+	// 커밋 순서가 id 순서와 다를 수 있어서 마지막 id보다 조금 앞에서부터 다시 읽고, 이미 있는 유저는 건너뜀
+	@Scheduled(fixedDelayString = "${user.nickname-prefix.catch-up-interval:PT10S}")
+	public void catchUpRecent() {
+		if (!loaded) {
+			return;
+		}
+		long cursor = Math.max(0, lastUserId - catchUpLookback);
+		List<UserNicknameResponse> users;
+		do {
+			users = userRepository.findNicknamesAfter(cursor, PageRequest.of(0, batchSize));
+			for (UserNicknameResponse user : users) {
+				addIfAbsent(Entry.of(user.getId(), user.getNickname()));
+			}
+			if (!users.isEmpty()) {
+				cursor = users.get(users.size() - 1).getId();
+				lastUserId = Math.max(lastUserId, cursor);
+			}
+		} while (users.size() == batchSize);
+	}
+
+	private void addIfAbsent(Entry entry) {
+		synchronized (writeLock) {
+			State current = state;
+			if (!current.base().contains(entry) && !current.frozen().contains(entry)) {
+				current.active().add(entry);
+			}
+		}
+	}
+
+	// 롤백된 가입이 검색되지 않도록 트랜잭션 안에서 호출되면 커밋 후에 반영함
+	public void add(long userId, String nickname) {
+		if (nickname == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					addCommitted(userId, nickname);
+				}
+			});
+			return;
+		}
+		addCommitted(userId, nickname);
+	}
+
+	private void addCommitted(long userId, String nickname) {
+		synchronized (writeLock) {
+			state.active().add(Entry.of(userId, nickname));
+		}
+	}
+
+	// 대소문자를 구분하지 않는 접두어 검색, 정규화 닉네임 -> id 순
+	public List<UserNicknameResponse> search(String prefix, int limit) {
+		if (!loaded) {
+			throw new ServiceUnavailableException("닉네임 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.");
+		}
+		String key = User.normalizeNickname(prefix);
+		State current = state;
+
+		// 각 구간에서 앞의 limit건씩만 모으면 합친 결과의 상위 limit건이 모두 포함됨
+		List<Entry> candidates = new ArrayList<>();
+		current.base().collect(key, limit, candidates);
+		collect(current.frozen(), key, limit, candidates);
+		collect(current.active(), key, limit, candidates);
+		candidates.sort(Comparator.naturalOrder());
+
+		List<UserNicknameResponse> result = new ArrayList<>(Math.min(limit, candidates.size()));
+		Entry previous = null;
+		for (Entry entry : candidates) {
+			if (result.size() == limit) {
+				break;
+			}
+			if (!entry.equals(previous)) {
+				result.add(new UserNicknameResponse(entry.id(), entry.nickname()));
+			}
+			previous = entry;
+		}
+		return result;
+	}
+
+	private static void collect(NavigableSet<Entry> entries, String key, int limit, List<Entry> candidates) {
+		int count = 0;
+		for (Entry entry : entries.tailSet(Entry.lowest(key), true)) {
+			if (count++ == limit || !entry.normalized().startsWith(key)) {
+				return;
+			}
+			candidates.add(entry);
+		}
+	}
+
+	// 가입으로 쌓인 항목이 많아지면 정렬 배열에 병합해서 skip list가 커지지 않도록 함
+	@Scheduled(fixedDelayString = "${user.nickname-prefix.compact-interval:PT10S}")
+	public void compact() {
+		State frozen;
+		synchronized (writeLock) {
+			State current = state;
+			if (!loaded || current.active().size() < compactThreshold) {
+				return;
+			}
+			// 병합하는 동안 들어오는 가입은 새 active에 쌓이고, 조회는 frozen까지 함께 봄
+			frozen = new State(current.base(), current.active(), new ConcurrentSkipListSet<>());
+			state = frozen;
+		}
+
+		SortedNicknames merged = frozen.base().merge(frozen.frozen());
+		synchronized (writeLock) {
+			state = new State(merged, Collections.emptyNavigableSet(), state.active());
+		}
+		log.info("닉네임 색인 병합: {}건", merged.size());
+	}
+
+	int size() {
+		State current = state;
+		return current.base().size() + current.frozen().size() + current.active().size();
+	}
+
+	boolean isLoaded() {
+		return loaded;
+	}
+
+	private record State(SortedNicknames base, NavigableSet<Entry> frozen, NavigableSet<Entry> active) {
+	}
+
+	private record Entry(String normalized, String nickname, long id) implements Comparable<Entry> {
+
+		static Entry of(long id, String nickname) {
+			return new Entry(User.normalizeNickname(nickname), nickname, id);
+		}
+
+		// 같은 접두어를 가진 어떤 항목보다도 앞에 오는 탐색 시작점
+		static Entry lowest(String key) {
+			return new Entry(key, "", Long.MIN_VALUE);
+		}
+
+		@Override
+		public int compareTo(Entry other) {
+			int result = compareCodePoints(normalized, other.normalized);
+			return result != 0 ? result : Long.compare(id, other.id);
+		}
+	}
+
+	// String.compareTo는 UTF-16 단위로 비교해서 보조 문자의 순서가 UTF-8 바이트 순과 다르므로 코드 포인트로 비교함
+	static int compareCodePoints(String left, String right) {
+		int i = 0;
+		int j = 0;
+		while (i < left.length() && j < right.length()) {
+			int leftCodePoint = left.codePointAt(i);
+			int rightCodePoint = right.codePointAt(j);
+			if (leftCodePoint != rightCodePoint) {
+				return Integer.compare(leftCodePoint, rightCodePoint);
+			}
+			i += Character.charCount(leftCodePoint);
+			j += Character.charCount(rightCodePoint);
+		}
+		return Integer.compare(left.length() - i, right.length() - j);
+	}
+
+	// 불변 정렬 배열: i번째 닉네임은 bytes[offsets[i], offsets[i + 1])
+	private static final class SortedNicknames {
+
+		static final SortedNicknames EMPTY = new SortedNicknames(new byte[0], new int[] {0}, new long[0]);
+
+		private final byte[] bytes;
+		private final int[] offsets;
+		private final long[] ids;
+
+		private SortedNicknames(byte[] bytes, int[] offsets, long[] ids) {
+			this.bytes = bytes;
+			this.offsets = offsets;
+			this.ids = ids;
+		}
+
+		int size() {
+			return ids.length;
+		}
+
+		String nickname(int index) {
+			return new String(bytes, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+		}
+
+		Entry entry(int index) {
+			return Entry.of(ids[index], nickname(index));
+		}
+
+		// 정규화 닉네임이 key 이상인 첫 위치
+		int lowerBound(String key) {
+			int low = 0;
+			int high = size();
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (compareCodePoints(User.normalizeNickname(nickname(mid)), key) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		// 같은 정규화 닉네임 안에서는 id 순이므로 더 큰 id가 나오면 멈춤
+		boolean contains(Entry target) {
+			for (int i = lowerBound(target.normalized()); i < size(); i++) {
+				Entry entry = entry(i);
+				if (!entry.normalized().equals(target.normalized()) || entry.id() > target.id()) {
+					return false;
+				}
+				if (entry.id() == target.id()) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void collect(String key, int limit, List<Entry> candidates) {
+			int start = lowerBound(key);
+			int end = Math.min(size(), start + limit);
+			for (int i = start; i < end; i++) {
+				Entry entry = entry(i);
+				if (!entry.normalized().startsWith(key)) {
+					return;
+				}
+				candidates.add(entry);
+			}
+		}
+
+		// 두 정렬 구간을 한 번 훑어서 병합, 같은 항목은 하나만 남김
+		SortedNicknames merge(NavigableSet<Entry> added) {
+			Builder builder = new Builder(size() + added.size());
+			Iterator<Entry> addedIterator = added.iterator();
+			Entry next = addedIterator.hasNext() ? addedIterator.next() : null;
+			for (int i = 0; i < size(); i++) {
+				Entry entry = entry(i);
+				while (next != null && next.compareTo(entry) <= 0) {
+					if (next.compareTo(entry) < 0) {
+						builder.append(next);
+					}
+					next = addedIterator.hasNext() ? addedIterator.next() : null;
+				}
+				builder.append(entry);
+			}
+			while (next != null) {
+				builder.append(next);
+				next = addedIterator.hasNext() ? addedIterator.next() : null;
+			}
+			return builder.build();
+		}
+	}
+
+	// 정렬 전후의 닉네임 배열을 만드는 버퍼, 건수를 미리 알 수 없으므로 두 배씩 늘림
+	private static final class Builder {
+
+		private final PackedBytes nicknames;
+		private long[] ids;
+
+		Builder(int capacity) {
+			this(capacity, capacity * 12);
+		}
+
+		Builder(int capacity, int byteCapacity) {
+			this.nicknames = new PackedBytes(capacity, byteCapacity);
+			this.ids = new long[Math.max(1, capacity)];
+		}
+
+		void append(Entry entry) {
+			byte[] encoded = entry.nickname().getBytes(StandardCharsets.UTF_8);
+			append(encoded, 0, encoded.length, entry.id());
+		}
+
+		void append(byte[] source, int from, int length, long id) {
+			int size = nicknames.size();
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size] = id;
+			nicknames.append(source, from, length);
+		}
+
+		// 정규화 닉네임(keys의 같은 순번) -> id 순으로 순번만 정렬한 뒤 그 순서로 옮겨 담음
+		SortedNicknames sortBy(PackedBytes keys) {
+			int size = nicknames.size();
+			int[] order = new int[size];
+			for (int i = 0; i < size; i++) {
+				order[i] = i;
+			}
+			mergeSort(order, new int[size], 0, size, (left, right) -> {
+				int result = keys.compare(left, right);
+				return result != 0 ? result : Long.compare(ids[left], ids[right]);
+			});
+
+			Builder sorted = new Builder(size, nicknames.offsets[size]);
+			for (int index : order) {
+				sorted.append(nicknames.bytes, nicknames.offsets[index], nicknames.length(index), ids[index]);
+			}
+			return sorted.build();
+		}
+
+		// 크기가 딱 맞으면 복사하지 않고 그대로 넘김 (적재 시 같은 크기의 배열이 한 벌 더 생기지 않도록)
+		SortedNicknames build() {
+			int size = nicknames.size();
+			return new SortedNicknames(trim(nicknames.bytes, nicknames.offsets[size]), trim(nicknames.offsets, size + 1), trim(ids, size));
+		}
+
+		private static byte[] trim(byte[] array, int length) {
+			return array.length == length ? array : Arrays.copyOf(array, length);
+		}
+
+		private static int[] trim(int[] array, int length) {
+			return array.length == length ? array : Arrays.copyOf(array, length);
+		}
+
+		private static long[] trim(long[] array, int length) {
+			return array.length == length ? array : Arrays.copyOf(array, length);
+		}
+
+		// 박싱 없이 int[] 순번을 정렬하려고 직접 구현한 안정 병합 정렬
+		private static void mergeSort(int[] order, int[] buffer, int from, int to, IntBinaryOperator comparator) {
+			if (to - from < 2) {
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			mergeSort(order, buffer, from, mid, comparator);
+			mergeSort(order, buffer, mid, to, comparator);
+			if (comparator.applyAsInt(order[mid - 1], order[mid]) <= 0) {
+				return;
+			}
+			System.arraycopy(order, from, buffer, from, to - from);
+			int left = from;
+			int right = mid;
+			for (int i = from; i < to; i++) {
+				if (right == to || (left < mid && comparator.applyAsInt(buffer[left], buffer[right]) <= 0)) {
+					order[i] = buffer[left++];
+				} else {
+					order[i] = buffer[right++];
+				}
+			}
+		}
+	}
+
+	// i번째 값은 bytes[offsets[i], offsets[i + 1])
+	private static final class PackedBytes {
+
+		private byte[] bytes;
+		private int[] offsets;
+		private int size;
+
+		PackedBytes(int capacity, int byteCapacity) {
+			this.bytes = new byte[byteCapacity];
+			this.offsets = new int[Math.max(1, capacity) + 1];
+		}
+
+		int size() {
+			return size;
+		}
+
+		int length(int index) {
+			return offsets[index + 1] - offsets[index];
+		}
+
+		void append(byte[] source, int from, int length) {
+			int offset = offsets[size];
+			if (offset + length > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, offset + length));
+			}
+			if (size + 1 == offsets.length) {
+				offsets = Arrays.copyOf(offsets, offsets.length * 2);
+			}
+			System.arraycopy(source, from, bytes, offset, length);
+			offsets[++size] = offset + length;
+		}
+
+		// UTF-8 바이트를 부호 없이 비교하면 코드 포인트 순과 같음
+		int compare(int left, int right) {
+			return Arrays.compareUnsigned(bytes, offsets[left], offsets[left + 1], bytes, offsets[right], offsets[right + 1]);
+		}
+	}
+}
@@ -0,0 +1,412 @@
+package org.example.expert.domain.user.service;
+
+import static java.nio.file.StandardOpenOption.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 닉네임 정확 일치 검색용 스냅샷: 정규화 닉네임 -> (id, 닉네임) 목록을 메모리 맵 파일의 open addressing 해시로 저장
+// 데이터가 힙 밖(page cache)에 있어 GC 대상이 아니고, 재시작 시 파일을 다시 매핑한 뒤 마지막 id 이후만 DB에서 따라잡음
+//
+// [header 64B][slot 16B x slotCount][data]
+// slot      : key hash(long, 0이면 빈 슬롯) | key record offset(int) | 첫(가장 작은) id record offset(int)
+// key record: 마지막(가장 큰) id record offset(int) + 길이(short) + 정규화 닉네임 UTF-8
+// id record : 다음 id record offset(int, 0이면 끝) + id(long) + 길이(short) + 닉네임 UTF-8
+// id record는 id 오름차순으로 연결되어 있어서 cursor 이후 limit건만 읽고 멈출 수 있음 (DB 조회와 같은 id 순서)
+@Slf4j
+@Component
+public class NicknameSnapshot {
+
+	private static final int MAGIC = 0x4e4b534e;
+	private static final int VERSION = 2;
+	private static final int HEADER_SIZE = 64;
+	private static final int SLOT_SIZE = 16;
+	private static final int MAGIC_OFFSET = 0;
+	private static final int VERSION_OFFSET = 4;
+	private static final int SLOT_COUNT_OFFSET = 8;
+	private static final int DATA_SIZE_OFFSET = 12;
+	private static final int CLEAN_OFFSET = 16;
+	private static final int DATA_END_OFFSET = 20;
+	private static final int KEY_COUNT_OFFSET = 24;
+	private static final int LAST_USER_ID_OFFSET = 32;
+	// 선형 탐색이 길어지지 않도록 슬롯의 70%까지만 사용
+	private static final double MAX_LOAD_FACTOR = 0.7;
+
+	private final UserRepository userRepository;
+	private final boolean enabled;
+	private final Path path;
+	private final int slotCount;
+	private final int dataSize;
+	private final int batchSize;
+	private final long catchUpLookback;
+	// 조회끼리는 동시에, 추가는 혼자 (슬롯과 레코드를 쓰는 도중의 값을 읽지 않도록 함)
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private MappedByteBuffer buffer;
+	private int dataEnd;
+	private int keyCount;
+	private long lastUserId;
+	private volatile boolean available;
+
+	public NicknameSnapshot(
+		UserRepository userRepository,
+		@Value("${user.nickname-snapshot.enabled:false}") boolean enabled,
+		@Value("${user.nickname-snapshot.path:snapshot/nicknames.bin}") String path,
+		@Value("${user.nickname-snapshot.slot-count:8388608}") int slotCount,
+		@Value("${user.nickname-snapshot.data-size:536870912}") int dataSize,
+		@Value("${user.nickname-snapshot.batch-size:10000}") int batchSize,
+		@Value("${user.nickname-snapshot.catch-up-lookback:1000}") long catchUpLookback
+	) {
+		this.userRepository = userRepository;
+		this.enabled = enabled;
+		this.path = Path.of(path);
+		// hash & (slotCount - 1)로 위치를 구하도록 2의 거듭제곱으로 맞춤
+		this.slotCount = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+		this.dataSize = dataSize;
+		this.batchSize = batchSize;
+		this.catchUpLookback = catchUpLookback;
+	}
+
+	// 정상 종료된 파일이면 그대로 쓰고, 비정상 종료나 설정 변경으로 맞지 않으면 비우고 DB에서 다시 채움
+	@EventListener(ApplicationReadyEvent.class)
+	public void open() {
+		if (!enabled) {
+			return;
+		}
+		long fileSize = HEADER_SIZE + (long) slotCount * SLOT_SIZE + dataSize;
+		if (fileSize > Integer.MAX_VALUE) {
+			log.warn("닉네임 스냅샷 크기가 2GB를 넘어 사용할 수 없습니다: slot-count={}, data-size={}", slotCount, dataSize);
+			return;
+		}
+
+		boolean reused;
+		lock.writeLock().lock();
+		try {
+			Path parent = path.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			try (FileChannel channel = FileChannel.open(path, CREATE, READ, WRITE)) {
+				reused = isReusable(channel, fileSize);
+				if (!reused) {
+					// 길이를 0으로 줄였다가 다시 매핑하면 슬롯 영역이 모두 0(빈 슬롯)이 됨
+					channel.truncate(0);
+				}
+				// 매핑은 채널을 닫아도 유지됨
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+			}
+			if (reused) {
+				dataEnd = buffer.getInt(DATA_END_OFFSET);
+				keyCount = buffer.getInt(KEY_COUNT_OFFSET);
+				lastUserId = buffer.getLong(LAST_USER_ID_OFFSET);
+			} else {
+				buffer.putInt(MAGIC_OFFSET, MAGIC);
+				buffer.putInt(VERSION_OFFSET, VERSION);
+				buffer.putInt(SLOT_COUNT_OFFSET, slotCount);
+				buffer.putInt(DATA_SIZE_OFFSET, dataSize);
+				dataEnd = HEADER_SIZE + slotCount * SLOT_SIZE;
+				keyCount = 0;
+				lastUserId = 0;
+				writeCounters();
+			}
+			// 종료 시 close()에서 다시 1로 바꾸기 전까지는 비정상 종료로 간주
+			buffer.putInt(CLEAN_OFFSET, 0);
+			buffer.force(0, HEADER_SIZE);
+		} catch (IOException e) {
+			log.warn("닉네임 스냅샷 파일을 열 수 없어 DB로 조회합니다: {}", e.getMessage());
+			return;
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		long start = System.currentTimeMillis();
+		available = catchUp(reused ? Math.max(0, lastUserId - catchUpLookback) : 0);
+		if (available) {
+			log.info("닉네임 스냅샷 {}: 닉네임 {}건, {}ms", reused ? "재사용" : "재구성", keyCount, System.currentTimeMillis() - start);
+		}
+	}
+
+	private boolean isReusable(FileChannel channel, long fileSize) throws IOException {
+		if (channel.size() != fileSize) {
+			return false;
+		}
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		channel.read(header, 0);
+		return header.getInt(MAGIC_OFFSET) == MAGIC
+			&& header.getInt(VERSION_OFFSET) == VERSION
+			&& header.getInt(SLOT_COUNT_OFFSET) == slotCount
+			&& header.getInt(DATA_SIZE_OFFSET) == dataSize
+			&& header.getInt(CLEAN_OFFSET) == 1;
+	}
+
+	// 다른 인스턴스의 가입과 bulk import는 signup 훅으로 들어오지 않으므로 주기적으로 id 순서대로 따라잡음
+	// 커밋 순서가 id 순서와 다를 수 있어서 마지막 id보다 조금 앞에서부터 다시 읽음 (이미 있는 id는 건너뜀)
+	@Scheduled(fixedDelayString = "${user.nickname-snapshot.catch-up-interval:PT10S}")
+	public void catchUpRecent() {
+		if (!available) {
+			return;
+		}
+		long from;
+		lock.readLock().lock();
+		try {
+			from = Math.max(0, lastUserId - catchUpLookback);
+		} finally {
+			lock.readLock().unlock();
+		}
+		available = catchUp(from);
+	}
+
+	private boolean catchUp(long fromId) {
+		long cursor = fromId;
+		List<UserNicknameResponse> users;
+		do {
+			users = userRepository.findNicknamesAfter(cursor, PageRequest.of(0, batchSize));
+			for (UserNicknameResponse user : users) {
+				if (!put(user.getId(), user.getNickname())) {
+					return false;
+				}
+			}
+			if (!users.isEmpty()) {
+				cursor = users.get(users.size() - 1).getId();
+			}
+		} while (users.size() == batchSize);
+		return true;
+	}
+
+	// 롤백된 가입이 검색되지 않도록 트랜잭션 안에서 호출되면 커밋 후에 반영함
+	public void add(long userId, String nickname) {
+		if (!available || nickname == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					addCommitted(userId, nickname);
+				}
+			});
+			return;
+		}
+		addCommitted(userId, nickname);
+	}
+
+	private void addCommitted(long userId, String nickname) {
+		if (!put(userId, nickname)) {
+			available = false;
+		}
+	}
+
+	// 정규화 닉네임이 같은 유저 중 afterId보다 큰 id를 id 순으로 최대 limit건
+	public List<UserNicknameResponse> find(String nickname, long afterId, int limit) {
+		byte[] key = User.normalizeNickname(nickname).getBytes(StandardCharsets.UTF_8);
+		long hash = hash(key);
+		lock.readLock().lock();
+		try {
+			int slotPosition = slotPosition(findSlot(key, hash));
+			if (buffer.getLong(slotPosition) == 0) {
+				return List.of();
+			}
+			List<UserNicknameResponse> users = new ArrayList<>();
+			for (int record = buffer.getInt(slotPosition + 12); record != 0 && users.size() < limit; record = buffer.getInt(record)) {
+				long userId = buffer.getLong(record + 4);
+				if (userId > afterId) {
+					users.add(new UserNicknameResponse(userId, readString(record + 12)));
+				}
+			}
+			return users;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	// 공간이 부족하면 false를 반환하고, 이후 조회는 DB로 넘어감
+	private boolean put(long userId, String nickname) {
+		byte[] key = User.normalizeNickname(nickname).getBytes(StandardCharsets.UTF_8);
+		byte[] display = nickname.getBytes(StandardCharsets.UTF_8);
+		long hash = hash(key);
+		lock.writeLock().lock();
+		try {
+			int slotPosition = slotPosition(findSlot(key, hash));
+			if (buffer.getLong(slotPosition) == 0) {
+				if (keyCount + 1 > slotCount * MAX_LOAD_FACTOR || !hasRoom(6 + key.length + 14 + display.length)) {
+					return full();
+				}
+				int keyRecord = dataEnd;
+				buffer.putInt(keyRecord, 0);
+				dataEnd += 4;
+				appendString(key);
+				int idRecord = appendIdRecord(0, userId, display);
+				buffer.putInt(keyRecord, idRecord);
+				buffer.putInt(slotPosition + 8, keyRecord);
+				buffer.putInt(slotPosition + 12, idRecord);
+				buffer.putLong(slotPosition, hash);
+				keyCount++;
+			} else if (!insertIdRecord(slotPosition, userId, display)) {
+				return full();
+			}
+			lastUserId = Math.max(lastUserId, userId);
+			writeCounters();
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private boolean full() {
+		log.warn("닉네임 스냅샷 공간이 부족해 DB로 조회합니다. slot-count 또는 data-size를 늘려주세요: 닉네임 {}건", keyCount);
+		return false;
+	}
+
+	// 같은 key의 슬롯이나 처음 만나는 빈 슬롯 (선형 탐색)
+	private int findSlot(byte[] key, long hash) {
+		int mask = slotCount - 1;
+		int slot = (int) hash & mask;
+		while (true) {
+			int slotPosition = slotPosition(slot);
+			long slotHash = buffer.getLong(slotPosition);
+			if (slotHash == 0 || (slotHash == hash && equalsString(buffer.getInt(slotPosition + 8) + 4, key))) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	// 가입 순서대로 들어오는 새 id는 끝에 바로 붙이고, 따라잡기로 늦게 들어온 작은 id만 앞에서부터 자리를 찾음
+	private boolean insertIdRecord(int slotPosition, long userId, byte[] display) {
+		int keyRecord = buffer.getInt(slotPosition + 8);
+		int tail = buffer.getInt(keyRecord);
+		if (userId > buffer.getLong(tail + 4)) {
+			if (!hasRoom(14 + display.length)) {
+				return false;
+			}
+			int idRecord = appendIdRecord(0, userId, display);
+			buffer.putInt(tail, idRecord);
+			buffer.putInt(keyRecord, idRecord);
+			return true;
+		}
+
+		int previous = 0;
+		int record = buffer.getInt(slotPosition + 12);
+		while (buffer.getLong(record + 4) < userId) {
+			previous = record;
+			record = buffer.getInt(record);
+		}
+		if (buffer.getLong(record + 4) == userId) {
+			return true;
+		}
+		if (!hasRoom(14 + display.length)) {
+			return false;
+		}
+		int idRecord = appendIdRecord(record, userId, display);
+		buffer.putInt(previous == 0 ? slotPosition + 12 : previous, idRecord);
+		return true;
+	}
+
+	private boolean hasRoom(int length) {
+		return (long) dataEnd + length <= buffer.capacity();
+	}
+
+	private int appendString(byte[] value) {
+		int offset = dataEnd;
+		buffer.putShort(offset, (short) value.length);
+		buffer.put(offset + 2, value);
+		dataEnd += 2 + value.length;
+		return offset;
+	}
+
+	private int appendIdRecord(int next, long userId, byte[] display) {
+		int offset = dataEnd;
+		buffer.putInt(offset, next);
+		buffer.putLong(offset + 4, userId);
+		dataEnd += 12;
+		appendString(display);
+		return offset;
+	}
+
+	private boolean equalsString(int offset, byte[] value) {
+		if (Short.toUnsignedInt(buffer.getShort(offset)) != value.length) {
+			return false;
+		}
+		for (int i = 0; i < value.length; i++) {
+			if (buffer.get(offset + 2 + i) != value[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private String readString(int offset) {
+		byte[] value = new byte[Short.toUnsignedInt(buffer.getShort(offset))];
+		buffer.get(offset + 2, value);
+		return new String(value, StandardCharsets.UTF_8);
+	}
+
+	private void writeCounters() {
+		buffer.putInt(DATA_END_OFFSET, dataEnd);
+		buffer.putInt(KEY_COUNT_OFFSET, keyCount);
+		buffer.putLong(LAST_USER_ID_OFFSET, lastUserId);
+	}
+
+	private static int slotPosition(int slot) {
+		return HEADER_SIZE + slot * SLOT_SIZE;
+	}
+
+	// FNV-1a 64bit + murmur3 finalizer, 0은 빈 슬롯 표시라서 쓰지 않음
+	private static long hash(byte[] key) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : key) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash == 0 ? 1 : hash;
+	}
+
+	// 변경된 페이지를 디스크에 내리고 정상 종료 표시를 남겨서 다음 시작 때 재구성 없이 다시 사용
+	@PreDestroy
+	public void close() {
+		lock.writeLock().lock();
+		try {
+			if (buffer == null) {
+				return;
+			}
+			available = false;
+			buffer.force();
+			buffer.putInt(CLEAN_OFFSET, 1);
+			buffer.force(0, HEADER_SIZE);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+}
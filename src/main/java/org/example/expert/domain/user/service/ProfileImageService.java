@@ -7,6 +7,7 @@ import java.time.Duration;
 import java.util.Set;
 import java.util.UUID;
 
+import org.example.expert.domain.common.annotation.MeasureLatency;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.response.ProfileImageDownloadResponse;
 import org.example.expert.domain.user.dto.response.ProfileImageUploadResponse;
@@ -26,6 +27,7 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
+@MeasureLatency
 @Service
 @RequiredArgsConstructor
 @Transactional
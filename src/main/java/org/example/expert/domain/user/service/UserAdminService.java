@@ -1,6 +1,8 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.service.TokenRevocationRegistry;
+import org.example.expert.domain.common.annotation.MeasureLatency;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
@@ -9,15 +11,21 @@ import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@MeasureLatency
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+
+        // 이전 역할이 담긴 access token은 즉시 거절하고, refresh token은 버전이 달라 재발급되지 않음
+        user.increaseTokenVersion();
+        tokenRevocationRegistry.revokeBefore(user.getId(), user.getTokenVersion());
     }
 }
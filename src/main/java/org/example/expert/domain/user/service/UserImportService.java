@@ -0,0 +1,360 @@
+package org.example.expert.domain.user.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.expert.config.BoundedPasswordEncoder;
+import org.example.expert.domain.common.annotation.MeasureLatency;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.entity.UserImportCheckpoint;
+import org.example.expert.domain.user.enums.UserImportFormat;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserImportCheckpointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 업로드를 한 줄씩 읽어 배치 단위로 해시 -> JDBC batch insert -> checkpoint 갱신을 반복 (전체를 메모리에 올리지 않음)
+@Slf4j
+@MeasureLatency
+@Service
+public class UserImportService {
+
+	private static final String INSERT_USER_QUERY = "INSERT INTO users (email, password, nickname, nickname_normalized, user_role, token_version, created_at, modified_at) "
+		+ "VALUES (?, ?, ?, ?, ?, 0, ?, ?)";
+	private static final int MAX_IMPORT_ID_LENGTH = 100;
+	private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final UserImportCheckpointRepository userImportCheckpointRepository;
+	private final PasswordEncoder passwordEncoder;
+	private final EmailBloomFilter emailBloomFilter;
+	private final NicknamePrefixIndex nicknamePrefixIndex;
+	private final ObjectMapper objectMapper;
+	private final int batchSize;
+	private final int hashThreads;
+	private final Counter importedCounter;
+	private final Counter duplicateCounter;
+	private final Counter invalidCounter;
+	// 같은 importId로 동시에 진행하면 checkpoint가 엇갈리므로 하나만 허용
+	private final Set<String> runningImports = ConcurrentHashMap.newKeySet();
+
+	public UserImportService(
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		UserImportCheckpointRepository userImportCheckpointRepository,
+		BoundedPasswordEncoder passwordEncoder,
+		EmailBloomFilter emailBloomFilter,
+		NicknamePrefixIndex nicknamePrefixIndex,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${user.import.batch-size:1000}") int batchSize,
+		@Value("${user.import.hash-threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int hashThreads
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.userImportCheckpointRepository = userImportCheckpointRepository;
+		// 로그인/가입용 해시 스레드와 대기열을 import가 차지하지 않도록 원본 encoder를 import 전용 스레드에서 사용
+		this.passwordEncoder = passwordEncoder.getDelegate();
+		this.emailBloomFilter = emailBloomFilter;
+		this.nicknamePrefixIndex = nicknamePrefixIndex;
+		this.objectMapper = objectMapper;
+		this.batchSize = batchSize;
+		this.hashThreads = hashThreads;
+		this.importedCounter = Counter.builder("user.import.rows")
+			.tag("result", "imported")
+			.register(meterRegistry);
+		this.duplicateCounter = Counter.builder("user.import.rows")
+			.tag("result", "duplicate")
+			.register(meterRegistry);
+		this.invalidCounter = Counter.builder("user.import.rows")
+			.tag("result", "invalid")
+			.register(meterRegistry);
+	}
+
+	// 같은 importId로 같은 파일을 다시 올리면 마지막으로 커밋된 줄 다음부터 이어서 진행
+	public UserImportResponse importUsers(String importId, UserImportFormat format, InputStream inputStream) throws IOException {
+		if (!StringUtils.hasText(importId) || importId.length() > MAX_IMPORT_ID_LENGTH) {
+			throw new InvalidRequestException("importId는 1~" + MAX_IMPORT_ID_LENGTH + "자여야 합니다.");
+		}
+		if (!runningImports.add(importId)) {
+			throw new InvalidRequestException("이미 진행 중인 import입니다.");
+		}
+
+		ExecutorService hashExecutor = createHashExecutor();
+		try {
+			return runImport(importId, format, inputStream, hashExecutor);
+		} finally {
+			hashExecutor.shutdownNow();
+			runningImports.remove(importId);
+		}
+	}
+
+	public UserImportResponse getImport(String importId) {
+		return userImportCheckpointRepository.findById(importId)
+			.map(UserImportResponse::from)
+			.orElseThrow(() -> new InvalidRequestException("Import not found"));
+	}
+
+	private UserImportResponse runImport(String importId, UserImportFormat format, InputStream inputStream,
+		ExecutorService hashExecutor) throws IOException {
+		UserImportCheckpoint checkpoint = transactionTemplate.execute(status -> userImportCheckpointRepository.findById(importId)
+			.orElseGet(() -> userImportCheckpointRepository.save(new UserImportCheckpoint(importId))));
+		long resumeFrom = checkpoint.getProcessedLines();
+		long start = System.nanoTime();
+		long lastLoggedAt = start;
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+		if (format == UserImportFormat.CSV) {
+			reader.readLine(); // email,password,nickname,userRole
+		}
+
+		List<UserImportRow> rows = new ArrayList<>(batchSize);
+		long lineNumber = 0;
+		long invalid = 0;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			// 이미 커밋된 구간은 파싱과 해시 없이 건너뜀
+			if (lineNumber <= resumeFrom || line.isBlank()) {
+				continue;
+			}
+
+			UserImportRow row = parse(line, format);
+			if (row == null) {
+				invalid++;
+			} else {
+				rows.add(row);
+			}
+
+			if (rows.size() == batchSize) {
+				checkpoint = commitBatch(importId, rows, lineNumber, invalid, hashExecutor, false);
+				rows.clear();
+				invalid = 0;
+
+				long now = System.nanoTime();
+				if (now - lastLoggedAt >= PROGRESS_LOG_INTERVAL_NANOS) {
+					lastLoggedAt = now;
+					logProgress(checkpoint, resumeFrom, start);
+				}
+			}
+		}
+		checkpoint = commitBatch(importId, rows, Math.max(lineNumber, resumeFrom), invalid, hashExecutor, true);
+		logProgress(checkpoint, resumeFrom, start);
+
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		return new UserImportResponse(checkpoint, elapsedMillis, checkpoint.getProcessedLines() - resumeFrom);
+	}
+
+	// 유저 insert와 checkpoint 갱신을 한 트랜잭션으로 묶어서, 커밋된 줄 수와 실제로 들어간 유저가 항상 일치하도록 함
+	private UserImportCheckpoint commitBatch(String importId, List<UserImportRow> rows, long processedLines, long invalid,
+		ExecutorService hashExecutor, boolean last) {
+		List<UserImportRow> newRows = excludeDuplicates(rows);
+		long duplicates = rows.size() - newRows.size();
+		List<Object[]> params = hashPasswords(newRows, hashExecutor);
+
+		List<UserNicknameResponse> insertedUsers = new ArrayList<>(newRows.size());
+		UserImportCheckpoint checkpoint;
+		try {
+			checkpoint = transactionTemplate.execute(status -> {
+				if (!params.isEmpty()) {
+					jdbcTemplate.batchUpdate(INSERT_USER_QUERY, params);
+					// batch insert는 생성된 id를 돌려주지 않으므로 닉네임 색인용 id를 한 번에 조회
+					insertedUsers.addAll(findInsertedUsers(newRows));
+				}
+				UserImportCheckpoint current = userImportCheckpointRepository.findById(importId)
+					.orElseThrow(() -> new ServerException("import checkpoint가 없습니다."));
+				current.advance(processedLines, newRows.size(), duplicates, invalid);
+				if (last) {
+					current.complete();
+				}
+				return current;
+			});
+		} catch (DuplicateKeyException e) {
+			// 중복 확인 후 insert 전에 같은 이메일로 가입한 경우, 배치는 롤백되고 다시 요청하면 이 배치부터 재시도
+			throw new ServiceUnavailableException("가입 요청과 겹친 이메일이 있어 중단되었습니다. 같은 importId로 다시 요청해주세요.");
+		}
+
+		for (UserImportRow row : newRows) {
+			emailBloomFilter.put(row.email());
+		}
+		for (UserNicknameResponse user : insertedUsers) {
+			nicknamePrefixIndex.add(user.getId(), user.getNickname());
+		}
+		importedCounter.increment(newRows.size());
+		duplicateCounter.increment(duplicates);
+		invalidCounter.increment(invalid);
+		return checkpoint;
+	}
+
+	// 배치 안에서 겹치는 이메일과 이미 가입된 이메일은 해시 전에 걸러서 BCrypt 비용을 낭비하지 않음
+	private List<UserImportRow> excludeDuplicates(List<UserImportRow> rows) {
+		Map<String, UserImportRow> rowsByEmail = new LinkedHashMap<>();
+		for (UserImportRow row : rows) {
+			rowsByEmail.putIfAbsent(row.email().toLowerCase(Locale.ROOT), row);
+		}
+
+		if (rowsByEmail.isEmpty()) {
+			return List.of();
+		}
+
+		// 배치당 IN 조회 한 번이면 되고 해시 비용에 비해 작으므로 Bloom filter 없이 항상 확인
+		Object[] emails = rowsByEmail.values().stream().map(UserImportRow::email).toArray();
+		String placeholders = String.join(",", Collections.nCopies(emails.length, "?"));
+		List<String> existingEmails = jdbcTemplate.queryForList(
+			"SELECT email FROM users WHERE email IN (" + placeholders + ")", String.class, emails);
+		for (String existingEmail : existingEmails) {
+			rowsByEmail.remove(existingEmail.toLowerCase(Locale.ROOT));
+		}
+		return new ArrayList<>(rowsByEmail.values());
+	}
+
+	private List<UserNicknameResponse> findInsertedUsers(List<UserImportRow> rows) {
+		Object[] emails = rows.stream().map(UserImportRow::email).toArray();
+		String placeholders = String.join(",", Collections.nCopies(emails.length, "?"));
+		return jdbcTemplate.query("SELECT id, nickname FROM users WHERE email IN (" + placeholders + ")",
+			(rs, rowNum) -> new UserNicknameResponse(rs.getLong("id"), rs.getString("nickname")), emails);
+	}
+
+	private List<Object[]> hashPasswords(List<UserImportRow> rows, ExecutorService hashExecutor) {
+		List<Future<String>> hashes = new ArrayList<>(rows.size());
+		for (UserImportRow row : rows) {
+			hashes.add(hashExecutor.submit(() -> passwordEncoder.encode(row.password())));
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> params = new ArrayList<>(rows.size());
+		for (int i = 0; i < rows.size(); i++) {
+			UserImportRow row = rows.get(i);
+			params.add(new Object[] {row.email(), await(hashes.get(i)), row.nickname(), User.normalizeNickname(row.nickname()),
+				row.userRole().name(), now, now});
+		}
+		return params;
+	}
+
+	private String await(Future<String> hash) {
+		try {
+			return hash.get();
+		} catch (ExecutionException e) {
+			throw new ServerException("비밀번호 처리 중 오류가 발생했습니다.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ServerException("비밀번호 처리가 중단되었습니다.");
+		}
+	}
+
+	private UserImportRow parse(String line, UserImportFormat format) {
+		try {
+			UserImportLine importLine = format == UserImportFormat.CSV
+				? parseCsv(line)
+				: objectMapper.readValue(line, UserImportLine.class);
+			if (importLine == null || !importLine.hasRequiredFields()) {
+				return null;
+			}
+			return new UserImportRow(importLine.email().trim(), importLine.password(), importLine.nickname().trim(),
+				UserRole.of(importLine.userRole()));
+		} catch (JsonProcessingException | InvalidRequestException e) {
+			return null;
+		}
+	}
+
+	// 한 줄짜리 RFC 4180 필드만 지원 (큰따옴표로 감싼 값 안의 쉼표와 "" 이스케이프)
+	private UserImportLine parseCsv(String line) {
+		List<String> fields = new ArrayList<>(4);
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c != '"') {
+					field.append(c);
+				} else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					field.append('"');
+					i++;
+				} else {
+					quoted = false;
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append(c);
+			}
+		}
+		fields.add(field.toString());
+
+		if (fields.size() != 4) {
+			return null;
+		}
+		return new UserImportLine(fields.get(0), fields.get(1), fields.get(2), fields.get(3));
+	}
+
+	private void logProgress(UserImportCheckpoint checkpoint, long resumeFrom, long start) {
+		double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+		log.info("유저 import [{}]: {}줄 처리 (추가 {}, 중복 {}, 오류 {}), {} lines/s",
+			checkpoint.getImportId(), checkpoint.getProcessedLines(), checkpoint.getImportedCount(),
+			checkpoint.getDuplicateCount(), checkpoint.getInvalidCount(),
+			elapsedSeconds == 0 ? 0 : Math.round((checkpoint.getProcessedLines() - resumeFrom) / elapsedSeconds));
+	}
+
+	private ExecutorService createHashExecutor() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return Executors.newFixedThreadPool(hashThreads, runnable -> {
+			Thread thread = new Thread(runnable, "user-import-hash-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	record UserImportLine(String email, String password, String nickname, String userRole) {
+
+		private boolean hasRequiredFields() {
+			return StringUtils.hasText(email) && email.contains("@")
+				&& StringUtils.hasText(password)
+				&& StringUtils.hasText(nickname)
+				&& StringUtils.hasText(userRole);
+		}
+	}
+
+	private record UserImportRow(String email, String password, String nickname, UserRole userRole) {
+	}
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.user.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserNicknameBackfiller {
+	private final UserService userService;
+
+	@Value("${user.nickname-normalize.backfill.enabled:true}")
+	private boolean enabled;
+
+	@Value("${user.nickname-normalize.backfill.batch-size:1000}")
+	private int batchSize;
+
+	// 정규화 닉네임이 없는 기존 유저를 시작 시점에 채워서 닉네임 검색이 인덱스만 사용하도록 함
+	// 채우기를 꺼두었더라도 남은 유저가 없으면 검색에서 IS NULL 구간 조회를 뺌
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillNormalizedNicknames() {
+		long normalized = 0;
+		try {
+			if (enabled) {
+				int count;
+				do {
+					count = userService.normalizeNicknames(batchSize);
+					normalized += count;
+				} while (count == batchSize);
+			}
+			if (!userService.completeNicknameNormalization()) {
+				log.warn("정규화 닉네임이 없는 유저가 남아 있어 닉네임 검색에서 IS NULL 구간도 함께 조회합니다.");
+			}
+		} catch (RuntimeException e) {
+			log.warn("유저 닉네임 정규화 채우기 실패: {}", e.getMessage());
+		}
+		if (normalized > 0) {
+			log.info("유저 닉네임 정규화 채우기: {}건", normalized);
+		}
+	}
+}
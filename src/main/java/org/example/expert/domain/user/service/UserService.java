@@ -4,6 +4,9 @@ import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
+import org.example.expert.domain.common.annotation.MeasureLatency;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.user.dto.request.UserCursor;
 import org.example.expert.domain.user.dto.response.UserNicknameResponse;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
@@ -11,16 +14,27 @@ import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@MeasureLatency
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final NicknamePrefixIndex nicknamePrefixIndex;
+    private final NicknameSnapshot nicknameSnapshot;
+    @Value("${user.nickname-prefix.max-size:50}")
+    private int maxPrefixSearchSize;
+    // 정규화 닉네임 채우기가 끝났는지 확인하기 전까지는 닉네임 검색에서 IS NULL 구간도 함께 조회함
+    private volatile boolean nicknameNormalizationPending = true;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
@@ -53,7 +67,48 @@ public class UserService {
         }
     }
 
-    public List<UserNicknameResponse> searchUsersByNickname(String nickname) {
-        return userRepository.searchByNickname(nickname);
+    public CursorPageResponse<UserNicknameResponse> searchUsersByNickname(String nickname, String cursor, int size) {
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_SEARCH_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        UserCursor after = UserCursor.decode(cursor);
+
+        // 스냅샷을 켜고 적재가 끝났으면 DB를 조회하지 않음, 두 경로 모두 같은 정규화 닉네임 안에서 id 순
+        Long afterId = after == null ? null : after.getId();
+        List<UserNicknameResponse> users = nicknameSnapshot.isAvailable()
+                ? nicknameSnapshot.find(nickname, afterId == null ? 0 : afterId, size + 1)
+                : userRepository.searchByNicknameAfterCursor(nickname, afterId, size + 1, nicknameNormalizationPending);
+
+        boolean hasNext = users.size() > size;
+        List<UserNicknameResponse> pageUsers = hasNext ? users.subList(0, size) : users;
+        String nextCursor = hasNext ? UserCursor.from(pageUsers.get(size - 1)).encode() : null;
+
+        return new CursorPageResponse<>(pageUsers, nextCursor);
+    }
+
+    public List<UserNicknameResponse> searchUsersByNicknamePrefix(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new InvalidRequestException("검색할 닉네임 접두어를 입력해주세요.");
+        }
+        if (size < 1) {
+            throw new InvalidRequestException("size는 1 이상이어야 합니다.");
+        }
+        return nicknamePrefixIndex.search(prefix, Math.min(size, maxPrefixSearchSize));
+    }
+
+    @Transactional
+    public int normalizeNicknames(int batchSize) {
+        List<User> users = userRepository.findNicknameNotNormalized(PageRequest.of(0, batchSize));
+        for (User user : users) {
+            user.normalizeNickname();
+        }
+        return users.size();
+    }
+
+    // 정규화 값이 없는 유저가 남아 있지 않으면 닉네임 검색을 nickname_normalized 한 구간만 읽도록 바꿈
+    // 가입/import 모두 정규화 값을 함께 저장하므로 한 번 비면 다시 생기지 않음
+    public boolean completeNicknameNormalization() {
+        nicknameNormalizationPending = userRepository.existsByNicknameNormalizedIsNullAndNicknameIsNotNull();
+        return !nicknameNormalizationPending;
     }
 }
@@ -0,0 +1,25 @@
+package org.example.expert.querystats;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 값만 다른 SQL을 같은 모양으로 묶기 위한 정규화 (pg_stat_statements의 queryid처럼 리터럴을 ?로 바꿈)
+public final class QueryFingerprint {
+
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+	// IN (?, ?, ?)처럼 개수만 다른 목록은 하나로 묶음
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private QueryFingerprint() {
+	}
+
+	public static String of(String sql) {
+		String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+		normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+		normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+		normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+		return normalized.trim().toLowerCase(Locale.ROOT);
+	}
+}
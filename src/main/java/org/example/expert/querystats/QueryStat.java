@@ -0,0 +1,81 @@
+package org.example.expert.querystats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.example.expert.querystats.dto.QueryStatResponse;
+
+// fingerprint 하나의 누적 통계, 모든 카운터가 LongAdder 계열이라 여러 스레드가 락 없이 동시에 기록함
+public class QueryStat {
+
+	// 지연 시간 histogram 상한 (마이크로초), 마지막 칸은 1초 초과
+	private static final long[] BUCKET_UPPER_BOUNDS_MICROS = {
+		100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000
+	};
+
+	private final String fingerprint;
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder[] buckets = new LongAdder[BUCKET_UPPER_BOUNDS_MICROS.length + 1];
+
+	QueryStat(String fingerprint) {
+		this.fingerprint = fingerprint;
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	void record(long elapsedNanos, boolean failed) {
+		calls.increment();
+		if (failed) {
+			errors.increment();
+		}
+		totalNanos.add(elapsedNanos);
+		maxNanos.accumulate(elapsedNanos);
+		buckets[bucketIndex(TimeUnit.NANOSECONDS.toMicros(elapsedNanos))].increment();
+	}
+
+	void addRows(long count) {
+		rows.add(count);
+	}
+
+	private static int bucketIndex(long micros) {
+		for (int i = 0; i < BUCKET_UPPER_BOUNDS_MICROS.length; i++) {
+			if (micros <= BUCKET_UPPER_BOUNDS_MICROS[i]) {
+				return i;
+			}
+		}
+		return BUCKET_UPPER_BOUNDS_MICROS.length;
+	}
+
+	// 합계는 읽는 동안에도 계속 더해지므로 항목 사이가 정확히 같은 시점은 아님 (모니터링 용도로는 충분)
+	QueryStatResponse toResponse() {
+		long callCount = calls.sum();
+		long total = totalNanos.sum();
+		Map<String, Long> histogram = new LinkedHashMap<>();
+		for (int i = 0; i < BUCKET_UPPER_BOUNDS_MICROS.length; i++) {
+			histogram.put("le_" + BUCKET_UPPER_BOUNDS_MICROS[i] + "us", buckets[i].sum());
+		}
+		histogram.put("gt_" + BUCKET_UPPER_BOUNDS_MICROS[BUCKET_UPPER_BOUNDS_MICROS.length - 1] + "us", buckets[BUCKET_UPPER_BOUNDS_MICROS.length].sum());
+		return new QueryStatResponse(
+			fingerprint,
+			callCount,
+			errors.sum(),
+			toMillis(total),
+			callCount == 0 ? 0 : toMillis(total / callCount),
+			toMillis(maxNanos.get()),
+			rows.sum(),
+			histogram
+		);
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
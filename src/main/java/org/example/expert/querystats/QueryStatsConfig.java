@@ -0,0 +1,28 @@
+package org.example.expert.querystats;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfig {
+
+	// BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 두고 store는 감쌀 때 꺼냄
+	@Bean
+	public static BeanPostProcessor queryStatsDataSourcePostProcessor(ObjectProvider<QueryStatsStore> queryStatsStore) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof QueryStatsDataSource)) {
+					return new QueryStatsDataSource(dataSource, queryStatsStore.getObject());
+				}
+				return bean;
+			}
+		};
+	}
+}
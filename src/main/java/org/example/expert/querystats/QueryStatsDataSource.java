@@ -0,0 +1,145 @@
+package org.example.expert.querystats;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// 커넥션 풀 앞에서 Statement 실행 시간과 반환 행 수를 재서 QueryStatsStore에 기록함
+// JPA, QueryDSL, JdbcTemplate 등 어느 경로로 실행된 SQL이든 같은 곳에서 집계됨
+public class QueryStatsDataSource extends DelegatingDataSource {
+
+	private final QueryStatsStore queryStatsStore;
+
+	public QueryStatsDataSource(DataSource target, QueryStatsStore queryStatsStore) {
+		super(target);
+		this.queryStatsStore = queryStatsStore;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return proxyConnection(obtainTargetDataSource().getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return proxyConnection(obtainTargetDataSource().getConnection(username, password));
+	}
+
+	private Connection proxyConnection(Connection connection) {
+		return proxy(Connection.class, (self, method, args) -> {
+			Object result = invokeTarget(connection, method, args);
+			return switch (method.getName()) {
+				case "createStatement" -> proxy(Statement.class, new StatementHandler(result, null));
+				case "prepareStatement" -> proxy(PreparedStatement.class, new StatementHandler(result, (String) args[0]));
+				case "prepareCall" -> proxy(CallableStatement.class, new StatementHandler(result, (String) args[0]));
+				default -> result;
+			};
+		});
+	}
+
+	private class StatementHandler implements InvocationHandler {
+
+		private final Object target;
+		private final String preparedSql;
+		// execute()로 실행한 뒤 getResultSet으로 꺼내는 결과도 같은 fingerprint에 행 수를 더하기 위해 기억함
+		private QueryStat lastStat;
+		private String batchSql;
+
+		private StatementHandler(Object target, String preparedSql) {
+			this.target = target;
+			this.preparedSql = preparedSql;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (name.equals("addBatch") && args != null && args.length > 0) {
+				batchSql = (String) args[0];
+			}
+			if (name.equals("getResultSet")) {
+				return wrapResultSet(invokeTarget(target, method, args), lastStat);
+			}
+			if (!name.startsWith("execute")) {
+				return invokeTarget(target, method, args);
+			}
+
+			QueryStat stat = queryStatsStore.statFor(sqlOf(name, args));
+			lastStat = stat;
+			long start = System.nanoTime();
+			boolean failed = true;
+			try {
+				Object result = invokeTarget(target, method, args);
+				failed = false;
+				return countRows(result, stat);
+			} finally {
+				stat.record(System.nanoTime() - start, failed);
+			}
+		}
+
+		private String sqlOf(String methodName, Object[] args) {
+			if (args != null && args.length > 0 && args[0] instanceof String sql) {
+				return sql;
+			}
+			if (preparedSql != null) {
+				return preparedSql;
+			}
+			return methodName.equals("executeBatch") && batchSql != null ? batchSql : methodName;
+		}
+
+		private Object countRows(Object result, QueryStat stat) {
+			if (result instanceof ResultSet resultSet) {
+				return wrapResultSet(resultSet, stat);
+			}
+			if (result instanceof Integer count && count > 0) {
+				stat.addRows(count);
+			} else if (result instanceof Long count && count > 0) {
+				stat.addRows(count);
+			} else if (result instanceof int[] counts) {
+				for (int count : counts) {
+					stat.addRows(Math.max(count, 0));
+				}
+			} else if (result instanceof long[] counts) {
+				for (long count : counts) {
+					stat.addRows(Math.max(count, 0));
+				}
+			}
+			return result;
+		}
+	}
+
+	private Object wrapResultSet(Object resultSet, QueryStat stat) {
+		if (resultSet == null || stat == null) {
+			return resultSet;
+		}
+		return proxy(ResultSet.class, (self, method, args) -> {
+			Object result = invokeTarget(resultSet, method, args);
+			if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+				stat.addRows(1);
+			}
+			return result;
+		});
+	}
+
+	private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(QueryStatsDataSource.class.getClassLoader(), new Class<?>[] {type}, handler));
+	}
+
+	private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
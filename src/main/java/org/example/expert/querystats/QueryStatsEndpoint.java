@@ -0,0 +1,32 @@
+package org.example.expert.querystats;
+
+import org.example.expert.querystats.dto.QueryStatsResponse;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// GET /actuator/querystats?limit=50 : 총 실행 시간 순 상위 fingerprint
+// DELETE /actuator/querystats : 통계 초기화
+@Component
+@Endpoint(id = "querystats")
+@RequiredArgsConstructor
+public class QueryStatsEndpoint {
+
+	private static final int DEFAULT_LIMIT = 50;
+
+	private final QueryStatsStore queryStatsStore;
+
+	@ReadOperation
+	public QueryStatsResponse queryStats(@Nullable Integer limit) {
+		return queryStatsStore.snapshot(limit == null || limit < 1 ? DEFAULT_LIMIT : limit);
+	}
+
+	@DeleteOperation
+	public void reset() {
+		queryStatsStore.reset();
+	}
+}
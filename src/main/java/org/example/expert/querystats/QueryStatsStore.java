@@ -0,0 +1,81 @@
+package org.example.expert.querystats;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.expert.querystats.dto.QueryStatResponse;
+import org.example.expert.querystats.dto.QueryStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// SQL fingerprint별 실행 통계 (QueryStatsDataSource가 기록, QueryStatsEndpoint가 조회/초기화)
+@Slf4j
+@Component
+public class QueryStatsStore {
+
+	private static final String OVERFLOW_FINGERPRINT = "<other>";
+
+	private final int maxFingerprints;
+	private final Map<String, QueryStat> stats = new ConcurrentHashMap<>();
+	// 같은 SQL 문자열은 정규화를 다시 하지 않도록 원문 → fingerprint를 캐시함 (PreparedStatement는 원문이 반복됨)
+	private final Map<String, String> fingerprintCache = new ConcurrentHashMap<>();
+	private volatile LocalDateTime since = LocalDateTime.now();
+
+	public QueryStatsStore(@Value("${query-stats.max-fingerprints:1000}") int maxFingerprints) {
+		this.maxFingerprints = maxFingerprints;
+	}
+
+	public QueryStat statFor(String sql) {
+		String fingerprint = fingerprintOf(sql);
+		QueryStat stat = stats.get(fingerprint);
+		if (stat != null) {
+			return stat;
+		}
+		// 리터럴이 바인딩되지 않은 동적 SQL이 끝없이 늘어나도 메모리가 커지지 않도록 한도를 넘으면 한 칸에 모음
+		if (stats.size() >= maxFingerprints) {
+			return stats.computeIfAbsent(OVERFLOW_FINGERPRINT, QueryStat::new);
+		}
+		return stats.computeIfAbsent(fingerprint, QueryStat::new);
+	}
+
+	private String fingerprintOf(String sql) {
+		String cached = fingerprintCache.get(sql);
+		if (cached != null) {
+			return cached;
+		}
+		String fingerprint = QueryFingerprint.of(sql);
+		if (fingerprintCache.size() < maxFingerprints * 4) {
+			fingerprintCache.put(sql, fingerprint);
+		}
+		return fingerprint;
+	}
+
+	public QueryStatsResponse snapshot(int limit) {
+		// 정렬 중에도 값이 바뀌므로 먼저 응답으로 고정한 뒤 정렬함
+		List<QueryStatResponse> current = stats.values().stream()
+			.map(QueryStat::toResponse)
+			.toList();
+		List<QueryStatResponse> statements = current.stream()
+			.sorted(Comparator.comparingDouble(QueryStatResponse::totalMillis).reversed())
+			.limit(limit)
+			.toList();
+		return new QueryStatsResponse(since, current.size(), statements);
+	}
+
+	// 진행 중인 실행은 이전 QueryStat 객체에 기록되고 버려짐
+	public void reset() {
+		stats.clear();
+		fingerprintCache.clear();
+		since = LocalDateTime.now();
+		log.info("쿼리 통계 초기화");
+	}
+
+	int size() {
+		return stats.size();
+	}
+}
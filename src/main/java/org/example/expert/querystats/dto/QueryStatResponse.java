@@ -0,0 +1,15 @@
+package org.example.expert.querystats.dto;
+
+import java.util.Map;
+
+public record QueryStatResponse(
+	String fingerprint,
+	long calls,
+	long errors,
+	double totalMillis,
+	double meanMillis,
+	double maxMillis,
+	long rows,
+	Map<String, Long> latencyHistogram
+) {
+}
@@ -0,0 +1,11 @@
+package org.example.expert.querystats.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record QueryStatsResponse(
+	LocalDateTime since,
+	int fingerprints,
+	List<QueryStatResponse> statements
+) {
+}
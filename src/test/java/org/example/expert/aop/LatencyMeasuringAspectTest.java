@@ -0,0 +1,90 @@
+package org.example.expert.aop;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.example.expert.domain.common.annotation.MeasureLatency;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LatencyMeasuringAspectTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private SampleService proxy() {
+		AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+		factory.setProxyTargetClass(true);
+		factory.addAspect(new LatencyMeasuringAspect(meterRegistry));
+		return factory.getProxy();
+	}
+
+	@Test
+	public void 반환값을_그대로_돌려주고_성공_시간을_기록() {
+		// given
+		SampleService sampleService = proxy();
+
+		// when
+		String result = sampleService.echo("hello");
+		sampleService.echo("world");
+
+		// then
+		assertThat(result).isEqualTo("hello");
+		Timer timer = meterRegistry.get("method.latency")
+			.tag("class", "SampleService")
+			.tag("method", "echo")
+			.tag("outcome", "success")
+			.timer();
+		assertThat(timer.count()).isEqualTo(2);
+	}
+
+	@Test
+	public void 예외는_그대로_던지고_error로_기록() {
+		// given
+		SampleService sampleService = proxy();
+
+		// when & then
+		assertThatThrownBy(sampleService::fail).isInstanceOf(IllegalStateException.class);
+		assertThat(meterRegistry.get("method.latency")
+			.tag("method", "fail")
+			.tag("outcome", "error")
+			.timer()
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	public void 성공은_합산할_수_있는_histogram만_내보내고_error는_실패할_때만_등록() {
+		// given
+		SampleService sampleService = proxy();
+
+		// when
+		sampleService.echo("hello");
+
+		// then
+		HistogramSnapshot snapshot = meterRegistry.get("method.latency")
+			.tag("method", "echo")
+			.tag("outcome", "success")
+			.timer()
+			.takeSnapshot();
+		assertThat(snapshot.percentileValues()).isEmpty();
+		assertThat(snapshot.histogramCounts()).isNotEmpty();
+		assertThat(meterRegistry.find("method.latency")
+			.tag("method", "echo")
+			.tag("outcome", "error")
+			.timer()).isNull();
+	}
+
+	@MeasureLatency
+	static class SampleService {
+
+		public String echo(String value) {
+			return value;
+		}
+
+		public void fail() {
+			throw new IllegalStateException("fail");
+		}
+	}
+}
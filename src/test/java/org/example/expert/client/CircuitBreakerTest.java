@@ -0,0 +1,90 @@
+package org.example.expert.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerTest {
+
+	@Test
+	public void 연속_실패가_기준에_도달하면_호출을_차단() {
+		// given
+		CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofMinutes(1));
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+		// when
+		circuitBreaker.onFailure();
+
+		// then
+		assertThat(circuitBreaker.tryAcquire()).isFalse();
+	}
+
+	@Test
+	public void 성공하면_연속_실패_횟수가_초기화됨() {
+		// given
+		CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofMinutes(1));
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+
+		// when
+		circuitBreaker.onSuccess();
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+
+		// then
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+	}
+
+	@Test
+	public void 차단_시간이_지나면_한_요청만_통과시켜_복구를_확인() {
+		// given
+		CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ZERO);
+		circuitBreaker.onFailure();
+
+		// when
+		boolean probe = circuitBreaker.tryAcquire();
+		boolean concurrent = circuitBreaker.tryAcquire();
+
+		// then
+		assertThat(probe).isTrue();
+		assertThat(concurrent).isFalse();
+	}
+
+	@Test
+	public void 확인_요청이_성공하면_다시_닫힘() {
+		// given
+		CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ZERO);
+		circuitBreaker.onFailure();
+		circuitBreaker.tryAcquire();
+
+		// when
+		circuitBreaker.onSuccess();
+
+		// then
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+	}
+
+	@Test
+	public void 확인_요청이_실패하면_기준과_관계없이_다시_열림() throws Exception {
+		// given
+		CircuitBreaker circuitBreaker = new CircuitBreaker(5, Duration.ofMillis(50));
+		for (int i = 0; i < 5; i++) {
+			circuitBreaker.onFailure();
+		}
+		Thread.sleep(60);
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+		// when
+		circuitBreaker.onFailure();
+
+		// then (실패 한 번으로 다시 열리고 차단 시간을 새로 기다림)
+		assertThat(circuitBreaker.tryAcquire()).isFalse();
+		Thread.sleep(60);
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+	}
+}
@@ -0,0 +1,78 @@
+package org.example.expert.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class FileWeatherProviderTest {
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void 파일의_날씨_목록을_읽음() throws Exception {
+		// given
+		Path file = tempDir.resolve("weather.json");
+		Files.writeString(file, "[{\"date\":\"02-28\",\"weather\":\"Cloudy\"},{\"date\":\"03-01\",\"weather\":\"Snowy\"}]");
+		FileWeatherProvider provider = new FileWeatherProvider(objectMapper, new FileSystemResource(file));
+
+		// when
+		List<WeatherDto> weathers = provider.fetchWeather();
+
+		// then
+		assertThat(provider.getName()).isEqualTo("file");
+		assertThat(weathers).extracting(WeatherDto::getDate, WeatherDto::getWeather)
+			.containsExactly(tuple("02-28", "Cloudy"), tuple("03-01", "Snowy"));
+	}
+
+	@Test
+	public void 파일이_없으면_ServerException() {
+		// given
+		FileWeatherProvider provider = new FileWeatherProvider(objectMapper, new FileSystemResource(tempDir.resolve("missing.json")));
+
+		// when & then
+		assertThatThrownBy(provider::fetchWeather)
+			.isInstanceOf(ServerException.class)
+			.hasMessageContaining("날씨 파일을 읽는데 실패했습니다.")
+			.hasFieldOrPropertyWithValue("failureKind", WeatherFailureKind.IO);
+	}
+
+	@Test
+	public void 형식이_잘못된_파일은_ServerException() throws Exception {
+		// given
+		Path file = tempDir.resolve("weather.json");
+		Files.writeString(file, "{\"date\":");
+		FileWeatherProvider provider = new FileWeatherProvider(objectMapper, new FileSystemResource(file));
+
+		// when & then
+		assertThatThrownBy(provider::fetchWeather)
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("failureKind", WeatherFailureKind.PARSE);
+	}
+
+	@Test
+	public void 기본_클래스패스_파일을_읽음() {
+		// given
+		FileWeatherProvider provider = new FileWeatherProvider(objectMapper, new ClassPathResource("weather/weather.json"));
+
+		// when
+		List<WeatherDto> weathers = provider.fetchWeather();
+
+		// then
+		assertThat(weathers).isNotEmpty();
+	}
+}
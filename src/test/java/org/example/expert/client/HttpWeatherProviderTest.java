@@ -0,0 +1,151 @@
+package org.example.expert.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class HttpWeatherProviderTest {
+
+	private static final String WEATHER_PATH = "/f-api/weather.json";
+
+	private HttpServer server;
+	private final AtomicInteger requests = new AtomicInteger();
+	private volatile int status = 200;
+	private volatile String body = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"},{\"date\":\"01-02\",\"weather\":\"Rainy\"}]";
+	private volatile long delayMillis;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext(WEATHER_PATH, this::respond);
+		server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	public void 응답_본문을_날씨_목록으로_변환() {
+		// given
+		HttpWeatherProvider provider = provider(5);
+
+		// when
+		List<WeatherDto> weathers = provider.fetchWeather();
+
+		// then
+		assertThat(weathers).extracting(WeatherDto::getDate, WeatherDto::getWeather)
+			.containsExactly(tuple("01-01", "Sunny"), tuple("01-02", "Rainy"));
+	}
+
+	@Test
+	public void 응답_시간이_read_timeout을_넘으면_ServerException() {
+		// given
+		delayMillis = 500;
+		HttpWeatherProvider provider = provider(5);
+
+		// when & then
+		assertThatThrownBy(provider::fetchWeather)
+			.isInstanceOf(ServerException.class)
+			.hasMessageContaining("응답 시간이 초과")
+			.hasFieldOrPropertyWithValue("failureKind", WeatherFailureKind.TIMEOUT);
+	}
+
+	@Test
+	public void 오류_상태_코드는_ServerException으로_변환() {
+		// given
+		status = 503;
+		HttpWeatherProvider provider = provider(5);
+
+		// when & then
+		assertThatThrownBy(provider::fetchWeather)
+			.isInstanceOf(ServerException.class)
+			.hasMessageContaining("503")
+			.hasFieldOrPropertyWithValue("failureKind", WeatherFailureKind.STATUS);
+	}
+
+	@Test
+	public void 형식이_잘못된_응답은_ServerException으로_변환() {
+		// given
+		body = "{not json";
+		HttpWeatherProvider provider = provider(5);
+
+		// when & then
+		assertThatThrownBy(provider::fetchWeather)
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("failureKind", WeatherFailureKind.PARSE);
+	}
+
+	@Test
+	public void 연결할_수_없으면_연결_실패로_구분() {
+		// given
+		HttpWeatherProvider provider = provider(5);
+		server.stop(0);
+
+		// when & then
+		assertThatThrownBy(provider::fetchWeather)
+			.isInstanceOf(ServerException.class)
+			.hasFieldOrPropertyWithValue("failureKind", WeatherFailureKind.CONNECT);
+	}
+
+	@Test
+	public void 연속_실패가_기준에_도달하면_API를_호출하지_않음() {
+		// given
+		status = 500;
+		HttpWeatherProvider provider = provider(2);
+		assertThatThrownBy(provider::fetchWeather).isInstanceOf(ServerException.class);
+		assertThatThrownBy(provider::fetchWeather).isInstanceOf(ServerException.class);
+
+		// when & then
+		assertThatThrownBy(provider::fetchWeather)
+			.isInstanceOf(ServerException.class)
+			.hasMessageContaining("일시 중단")
+			.hasFieldOrPropertyWithValue("failureKind", WeatherFailureKind.CIRCUIT_OPEN);
+		assertThat(requests.get()).isEqualTo(2);
+	}
+
+	private HttpWeatherProvider provider(int failureThreshold) {
+		return new HttpWeatherProvider(
+			new RestTemplateBuilder(),
+			"http://localhost:" + server.getAddress().getPort(),
+			Duration.ofSeconds(1),
+			Duration.ofMillis(100),
+			failureThreshold,
+			Duration.ofMinutes(1)
+		);
+	}
+
+	private void respond(HttpExchange exchange) throws IOException {
+		requests.incrementAndGet();
+		try {
+			Thread.sleep(delayMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		} catch (IOException e) {
+			// read timeout으로 클라이언트가 먼저 연결을 끊은 경우
+		}
+	}
+}
@@ -0,0 +1,284 @@
+package org.example.expert.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class WeatherClientTest {
+
+	private static final LocalDate TODAY = LocalDate.now();
+	private static final String TODAY_KEY = TODAY.format(DateTimeFormatter.ofPattern("MM-dd"));
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void 캐시가_유효하면_외부_API를_다시_호출하지_않음() {
+		// given
+		StubWeatherProvider provider = new StubWeatherProvider(() -> List.of(new WeatherDto(TODAY_KEY, "Sunny")));
+		WeatherClient weatherClient = weatherClient(provider, Duration.ofHours(6), Duration.ofSeconds(3), WeatherFallbackPolicy.FAIL);
+
+		// when
+		weatherClient.getWeather(TODAY);
+		String weather = weatherClient.getWeather(TODAY);
+
+		// then
+		assertThat(weather).isEqualTo("Sunny");
+		assertThat(provider.calls.get()).isEqualTo(1);
+		assertThat(meterRegistry.counter("weather.cache.requests", "result", "hit").count()).isEqualTo(1);
+	}
+
+	@Test
+	public void TTL이_지나면_외부_API를_다시_호출() {
+		// given (TTL 0이라 첫 조회 직후 만료됨)
+		StubWeatherProvider provider = new StubWeatherProvider(() -> List.of(new WeatherDto(TODAY_KEY, "Sunny")));
+		WeatherClient weatherClient = weatherClient(provider, Duration.ZERO, Duration.ofSeconds(3), WeatherFallbackPolicy.FAIL);
+		weatherClient.getWeather(TODAY);
+
+		// when
+		String weather = weatherClient.getWeather(TODAY);
+
+		// then
+		assertThat(weather).isEqualTo("Sunny");
+		assertThat(provider.calls.get()).isEqualTo(2);
+		assertThat(meterRegistry.counter("weather.cache.requests", "result", "miss").count()).isEqualTo(2);
+	}
+
+	@Test
+	public void 만료가_refresh_ahead_안으로_들어오면_요청_전에_미리_갱신() {
+		// given (TTL 1분 < refresh-ahead 5분)
+		StubWeatherProvider provider = new StubWeatherProvider(() -> List.of(new WeatherDto(TODAY_KEY, "Sunny")));
+		WeatherClient weatherClient = weatherClient(provider, Duration.ofMinutes(1), Duration.ofSeconds(3), WeatherFallbackPolicy.FAIL);
+		weatherClient.getWeather(TODAY);
+
+		// when
+		weatherClient.refreshAheadOfExpiry();
+		String weather = weatherClient.getWeather(TODAY);
+
+		// then
+		assertThat(weather).isEqualTo("Sunny");
+		assertThat(provider.calls.get()).isEqualTo(2);
+		assertThat(meterRegistry.counter("weather.cache.requests", "result", "hit").count()).isEqualTo(1);
+	}
+
+	@Test
+	public void 만료까지_여유가_있거나_캐시가_없으면_미리_갱신하지_않음() {
+		// given
+		StubWeatherProvider provider = new StubWeatherProvider(() -> List.of(new WeatherDto(TODAY_KEY, "Sunny")));
+		WeatherClient weatherClient = weatherClient(provider, Duration.ofHours(6), Duration.ofSeconds(3), WeatherFallbackPolicy.FAIL);
+
+		// when & then : 캐시가 없으면 요청이 들어올 때 조회함
+		weatherClient.refreshAheadOfExpiry();
+		assertThat(provider.calls.get()).isZero();
+
+		// when & then : 만료(TTL과 자정 중 이른 시점)가 refresh-ahead보다 멀면 그대로 둠
+		weatherClient.getWeather(TODAY);
+		weatherClient.refreshAheadOfExpiry();
+		assertThat(provider.calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void 동시에_캐시를_놓친_요청들은_한_번만_조회() throws Exception {
+		// given
+		CountDownLatch release = new CountDownLatch(1);
+		StubWeatherProvider provider = new StubWeatherProvider(() -> {
+			await(release);
+			return List.of(new WeatherDto(TODAY_KEY, "Sunny"));
+		});
+		WeatherClient weatherClient = weatherClient(provider, Duration.ofHours(6), Duration.ofSeconds(5), WeatherFallbackPolicy.FAIL);
+		int threads = 8;
+
+		// when (첫 요청이 조회하는 동안 나머지 요청이 모두 합류한 뒤에 응답을 보냄)
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			results.add(executor.submit(() -> weatherClient.getWeather(TODAY)));
+		}
+		waitUntil(() -> meterRegistry.counter("weather.fetch.coalesced").count() == threads - 1);
+		release.countDown();
+
+		// then
+		for (Future<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Sunny");
+		}
+		assertThat(provider.calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void 합류한_요청이_대기_시간을_넘기면_fallback_적용() throws Exception {
+		// given
+		CountDownLatch release = new CountDownLatch(1);
+		StubWeatherProvider provider = new StubWeatherProvider(() -> {
+			await(release);
+			return List.of(new WeatherDto(TODAY_KEY, "Sunny"));
+		});
+		WeatherClient weatherClient = weatherClient(provider, Duration.ofHours(6), Duration.ofMillis(50), WeatherFallbackPolicy.DEFAULT);
+		Future<String> first = executor.submit(() -> weatherClient.getWeather(TODAY));
+		waitUntil(() -> provider.calls.get() == 1);
+
+		// when
+		String weather = weatherClient.getWeather(TODAY);
+
+		// then
+		assertThat(weather).isEqualTo("Unknown");
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("Sunny");
+	}
+
+	@Test
+	public void FAIL_정책은_조회_실패를_그대로_전달() {
+		// given
+		StubWeatherProvider provider = new StubWeatherProvider(() -> {
+			throw new ServerException("날씨 API 장애");
+		});
+		WeatherClient weatherClient = weatherClient(provider, Duration.ofHours(6), Duration.ofSeconds(3), WeatherFallbackPolicy.FAIL);
+
+		// when & then
+		assertThatThrownBy(() -> weatherClient.getWeather(TODAY))
+			.isInstanceOf(ServerException.class)
+			.hasMessage("날씨 API 장애");
+	}
+
+	@Test
+	public void 외부_API_실패는_실패_종류별로_집계() {
+		// given
+		StubWeatherProvider provider = new StubWeatherProvider(() -> {
+			throw new WeatherProviderException(WeatherFailureKind.TIMEOUT, "응답 시간 초과");
+		});
+		WeatherClient weatherClient = weatherClient(provider, Duration.ofHours(6), Duration.ofSeconds(3), WeatherFallbackPolicy.DEFAULT);
+
+		// when
+		weatherClient.getWeather(TODAY);
+
+		// then
+		assertThat(meterRegistry.counter("weather.provider.errors", "provider", "stub", "failure", "timeout").count()).isEqualTo(1);
+	}
+
+	@Test
+	public void DEFAULT_정책은_조회_실패_시_기본값_반환() {
+		// given
+		StubWeatherProvider provider = new StubWeatherProvider(() -> {
+			throw new ServerException("날씨 API 장애");
+		});
+		WeatherClient weatherClient = weatherClient(provider, Duration.ofHours(6), Duration.ofSeconds(3), WeatherFallbackPolicy.DEFAULT);
+
+		// when
+		String weather = weatherClient.getWeather(TODAY);
+
+		// then
+		assertThat(weather).isEqualTo("Unknown");
+		assertThat(meterRegistry.counter("weather.fetch.fallbacks", "policy", "DEFAULT").count()).isEqualTo(1);
+	}
+
+	@Test
+	public void STALE_정책은_조회_실패_시_만료된_캐시_사용() {
+		// given (TTL 0이라 첫 조회 직후 만료됨)
+		AtomicInteger calls = new AtomicInteger();
+		StubWeatherProvider provider = new StubWeatherProvider(() -> {
+			if (calls.incrementAndGet() > 1) {
+				throw new ServerException("날씨 API 장애");
+			}
+			return List.of(new WeatherDto(TODAY_KEY, "Sunny"));
+		});
+		WeatherClient weatherClient = weatherClient(provider, Duration.ZERO, Duration.ofSeconds(3), WeatherFallbackPolicy.STALE);
+		weatherClient.getWeather(TODAY);
+
+		// when
+		String weather = weatherClient.getWeather(TODAY);
+
+		// then
+		assertThat(weather).isEqualTo("Sunny");
+		assertThat(provider.calls.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void 캐시에_없는_날짜도_fallback_정책을_따름() {
+		// given
+		StubWeatherProvider provider = new StubWeatherProvider(() -> List.of(new WeatherDto(TODAY_KEY, "Sunny")));
+		WeatherClient weatherClient = weatherClient(provider, Duration.ofHours(6), Duration.ofSeconds(3), WeatherFallbackPolicy.DEFAULT);
+		weatherClient.getWeather(TODAY);
+
+		// when (캐시가 유효한 상태에서 데이터가 없는 날짜 조회)
+		String weather = weatherClient.getWeather(TODAY.plusDays(1));
+
+		// then
+		assertThat(weather).isEqualTo("Unknown");
+		assertThat(provider.calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void STALE_정책이라도_만료된_캐시가_없으면_실패() {
+		// given
+		StubWeatherProvider provider = new StubWeatherProvider(() -> {
+			throw new ServerException("날씨 API 장애");
+		});
+		WeatherClient weatherClient = weatherClient(provider, Duration.ofHours(6), Duration.ofSeconds(3), WeatherFallbackPolicy.STALE);
+
+		// when & then
+		assertThatThrownBy(() -> weatherClient.getWeather(TODAY))
+			.isInstanceOf(ServerException.class);
+	}
+
+	private WeatherClient weatherClient(WeatherProvider provider, Duration ttl, Duration maxWait, WeatherFallbackPolicy policy) {
+		return new WeatherClient(provider, meterRegistry, ttl, Duration.ofMinutes(5), maxWait, policy, "Unknown");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void waitUntil(Supplier<Boolean> condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.get()) {
+			assertThat(System.nanoTime()).as("대기 조건 시간 초과").isLessThan(deadline);
+			Thread.sleep(5);
+		}
+	}
+
+	private static class StubWeatherProvider implements WeatherProvider {
+
+		private final Supplier<List<WeatherDto>> response;
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private StubWeatherProvider(Supplier<List<WeatherDto>> response) {
+			this.response = response;
+		}
+
+		@Override
+		public String getName() {
+			return "stub";
+		}
+
+		@Override
+		public List<WeatherDto> fetchWeather() {
+			calls.incrementAndGet();
+			return response.get();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoundedPasswordEncoderTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final BlockingPasswordEncoder delegate = new BlockingPasswordEncoder();
+	private BoundedPasswordEncoder encoder;
+
+	@AfterEach
+	void tearDown() {
+		delegate.release.countDown();
+		if (encoder != null) {
+			encoder.destroy();
+		}
+	}
+
+	@Test
+	public void 해시_결과를_그대로_반환() {
+		// given
+		delegate.release.countDown();
+		encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(1), meterRegistry);
+
+		// when & then
+		assertThat(encoder.encode("password")).isEqualTo("hashed:password");
+		assertThat(encoder.matches("password", "hashed:password")).isTrue();
+		assertThat(meterRegistry.get("password.hash.latency").timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	public void 스레드와_대기열이_가득_차면_기다리지_않고_503() throws Exception {
+		// given (스레드 1개는 해시 중, 대기열 1칸도 찬 상태)
+		encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), meterRegistry);
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("running"));
+		assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("queued"));
+		waitUntilQueued(1);
+
+		// when
+		long start = System.nanoTime();
+		Throwable thrown = catchThrowable(() -> encoder.encode("rejected"));
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// then
+		assertThat(thrown).isInstanceOf(ServiceUnavailableException.class);
+		assertThat(elapsedMillis).isLessThan(1000);
+		assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+		delegate.release.countDown();
+		assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:running");
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:queued");
+	}
+
+	@Test
+	public void 대기열에서_max_wait를_넘기면_503() throws Exception {
+		// given
+		encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(100), meterRegistry);
+		CompletableFuture.runAsync(() -> catchThrowable(() -> encoder.encode("running")));
+		assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// when
+		long start = System.nanoTime();
+		Throwable thrown = catchThrowable(() -> encoder.matches("waiting", "hashed:waiting"));
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// then
+		assertThat(thrown).isInstanceOf(ServiceUnavailableException.class);
+		assertThat(elapsedMillis).isGreaterThanOrEqualTo(100);
+		assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+	}
+
+	private void waitUntilQueued(int size) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get("password.hash.queue.size").gauge().value() < size) {
+			assertThat(System.nanoTime()).as("대기열 적재 시간 초과").isLessThan(deadline);
+			Thread.sleep(5);
+		}
+	}
+
+	// release 전까지 해시를 끝내지 않아서 스레드 풀을 점유함
+	private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			block();
+			return "hashed:" + rawPassword;
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			block();
+			return encodedPassword.equals("hashed:" + rawPassword);
+		}
+
+		private void block() {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class FavreBCryptPasswordEncoderTest {
+
+	private static final int COST = 4;
+
+	private final FavreBCryptPasswordEncoder favre = new FavreBCryptPasswordEncoder(COST);
+	private final BCryptPasswordEncoder spring = new BCryptPasswordEncoder(COST);
+
+	// 짧은 비밀번호, 한글(3바이트 문자), 키 길이 경계(71/72/73바이트), 72바이트를 훨씬 넘는 비밀번호
+	private final List<String> passwords = List.of(
+		"password",
+		"비밀번호123!",
+		"a".repeat(71),
+		"a".repeat(72),
+		"a".repeat(73),
+		"가".repeat(24),
+		"long-password-".repeat(10)
+	);
+
+	@Test
+	public void favre로_만든_해시를_BCryptPasswordEncoder가_검증() {
+		for (String password : passwords) {
+			// when
+			String encoded = favre.encode(password);
+
+			// then
+			assertThat(encoded).as(describe(password)).startsWith("$2a$04$");
+			assertThat(spring.matches(password, encoded)).as(describe(password)).isTrue();
+			assertThat(spring.matches("wrong", encoded)).as(describe(password)).isFalse();
+		}
+	}
+
+	@Test
+	public void BCryptPasswordEncoder로_만든_해시를_favre가_검증() {
+		for (String password : passwords) {
+			// when
+			String encoded = spring.encode(password);
+
+			// then
+			assertThat(favre.matches(password, encoded)).as(describe(password)).isTrue();
+			assertThat(favre.matches("wrong", encoded)).as(describe(password)).isFalse();
+		}
+	}
+
+	@Test
+	public void 앞_72바이트가_같은_비밀번호는_두_구현_모두_같게_취급() {
+		// given
+		String prefix = "p".repeat(72);
+		String encodedByFavre = favre.encode(prefix + "first");
+		String encodedBySpring = spring.encode(prefix + "first");
+
+		// when & then
+		assertThat(favre.matches(prefix + "second", encodedByFavre)).isTrue();
+		assertThat(spring.matches(prefix + "second", encodedByFavre)).isTrue();
+		assertThat(favre.matches(prefix + "second", encodedBySpring)).isTrue();
+		assertThat(favre.matches("q" + prefix.substring(1) + "first", encodedBySpring)).isFalse();
+	}
+
+	@Test
+	public void 72번째_바이트만_다른_비밀번호는_구분() {
+		// given
+		String encoded = spring.encode("a".repeat(71) + "b");
+
+		// when & then
+		assertThat(favre.matches("a".repeat(71) + "b", encoded)).isTrue();
+		assertThat(favre.matches("a".repeat(71) + "c", encoded)).isFalse();
+		assertThat(favre.matches("a".repeat(71), encoded)).isFalse();
+	}
+
+	@Test
+	public void 빈_해시는_검증하지_않음() {
+		assertThat(favre.matches("password", null)).isFalse();
+		assertThat(favre.matches("password", "")).isFalse();
+	}
+
+	private static int bytes(String password) {
+		return password.getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	private static String describe(String password) {
+		return bytes(password) + "바이트 비밀번호";
+	}
+}
@@ -0,0 +1,140 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.service.TokenRevocationRegistry;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class JwtUtilTest {
+
+	private static final String SECRET_KEY = Base64.getEncoder()
+		.encodeToString("jwt-util-test-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(Duration.ofMinutes(15));
+
+	@Test
+	public void 캐시에_있는_토큰은_다시_파싱하지_않음() {
+		// given
+		JwtUtil jwtUtil = jwtUtil(Duration.ofMinutes(15));
+		String token = accessToken(jwtUtil, 0);
+
+		// when
+		AuthUser first = jwtUtil.authenticate(token);
+		AuthUser second = jwtUtil.authenticate(token);
+
+		// then
+		assertThat(second).isSameAs(first);
+		assertThat(second.getId()).isEqualTo(1L);
+		assertThat(second.getUserRole()).isEqualTo(UserRole.USER);
+		assertThat(verificationCount()).isEqualTo(1);
+		assertThat(verifiedTokens(jwtUtil).stats().hitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void 캐시_항목은_토큰_만료_시각에_제거됨() throws Exception {
+		// given (exp claim은 초 단위이므로 1초 TTL 토큰이 만료될 때까지 기다림)
+		JwtUtil jwtUtil = jwtUtil(Duration.ofSeconds(1));
+		String token = accessToken(jwtUtil, 0);
+		jwtUtil.authenticate(token);
+		assertThat(verifiedTokens(jwtUtil).asMap()).hasSize(1);
+
+		// when
+		Thread.sleep(2100);
+
+		// then
+		assertThatThrownBy(() -> jwtUtil.authenticate(token))
+			.isInstanceOf(ExpiredJwtException.class);
+		verifiedTokens(jwtUtil).cleanUp();
+		assertThat(verifiedTokens(jwtUtil).asMap()).isEmpty();
+	}
+
+	@Test
+	public void 변조된_토큰은_캐시하지_않음() {
+		// given
+		JwtUtil jwtUtil = jwtUtil(Duration.ofMinutes(15));
+		String token = accessToken(jwtUtil, 0);
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		// when & then
+		assertThatThrownBy(() -> jwtUtil.authenticate(tampered)).isInstanceOf(JwtException.class);
+		assertThatThrownBy(() -> jwtUtil.authenticate(tampered)).isInstanceOf(JwtException.class);
+		assertThat(verifiedTokens(jwtUtil).asMap()).isEmpty();
+	}
+
+	@Test
+	public void 이미_만료된_토큰은_캐시하지_않음() {
+		// given
+		JwtUtil jwtUtil = jwtUtil(Duration.ofSeconds(-10));
+		String token = accessToken(jwtUtil, 0);
+
+		// when & then
+		assertThatThrownBy(() -> jwtUtil.authenticate(token)).isInstanceOf(ExpiredJwtException.class);
+		assertThat(verifiedTokens(jwtUtil).asMap()).isEmpty();
+	}
+
+	@Test
+	public void 캐시에_있어도_폐기된_버전의_토큰은_거절() {
+		// given
+		JwtUtil jwtUtil = jwtUtil(Duration.ofMinutes(15));
+		String oldToken = accessToken(jwtUtil, 0);
+		String newToken = accessToken(jwtUtil, 1);
+		jwtUtil.authenticate(oldToken);
+
+		// when
+		tokenRevocationRegistry.revokeBefore(1L, 1);
+
+		// then
+		assertThatThrownBy(() -> jwtUtil.authenticate(oldToken)).isInstanceOf(AuthException.class);
+		assertThat(jwtUtil.authenticate(newToken).getId()).isEqualTo(1L);
+	}
+
+	@Test
+	public void refresh_token으로는_인증할_수_없음() {
+		// given
+		JwtUtil jwtUtil = jwtUtil(Duration.ofMinutes(15));
+		String refreshToken = jwtUtil.createRefreshToken(1L, 0);
+
+		// when & then
+		assertThatThrownBy(() -> jwtUtil.authenticate(refreshToken)).isInstanceOf(UnsupportedJwtException.class);
+		assertThat(verifiedTokens(jwtUtil).asMap()).isEmpty();
+	}
+
+	private JwtUtil jwtUtil(Duration accessTokenTtl) {
+		JwtUtil jwtUtil = new JwtUtil(meterRegistry, tokenRevocationRegistry);
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+		ReflectionTestUtils.setField(jwtUtil, "accessTokenTtl", accessTokenTtl);
+		ReflectionTestUtils.setField(jwtUtil, "refreshTokenTtl", Duration.ofDays(14));
+		ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100L);
+		jwtUtil.init();
+		return jwtUtil;
+	}
+
+	private String accessToken(JwtUtil jwtUtil, long tokenVersion) {
+		return jwtUtil.substringToken(jwtUtil.createToken(1L, "user@test.com", "user", UserRole.USER, tokenVersion));
+	}
+
+	private long verificationCount() {
+		return meterRegistry.get("jwt.verification.latency").timer().count();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Cache<String, ?> verifiedTokens(JwtUtil jwtUtil) {
+		return (Cache<String, ?>) ReflectionTestUtils.getField(jwtUtil, "verifiedTokens");
+	}
+}
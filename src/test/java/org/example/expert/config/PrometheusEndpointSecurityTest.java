@@ -0,0 +1,53 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"management.server.port=0",
+		"management.endpoints.web.exposure.include=health,prometheus"
+	})
+@ActiveProfiles("test")
+public class PrometheusEndpointSecurityTest {
+
+	@Autowired
+	TestRestTemplate restTemplate;
+
+	@LocalServerPort
+	int serverPort;
+
+	@LocalManagementPort
+	int managementPort;
+
+	@Test
+	void 관리_포트로_들어온_수집_요청은_토큰_없이_허용한다() {
+		// when
+		ResponseEntity<String> response = restTemplate.getForEntity(
+			"http://localhost:" + managementPort + "/actuator/prometheus", String.class);
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).contains("jvm_");
+	}
+
+	@Test
+	void 서비스_포트로_들어온_수집_요청은_토큰_없이_거절한다() {
+		// when
+		ResponseEntity<String> response = restTemplate.getForEntity(
+			"http://localhost:" + serverPort + "/actuator/prometheus", String.class);
+
+		// then
+		assertThat(response.getStatusCode().is4xxClientError()).isTrue();
+	}
+}
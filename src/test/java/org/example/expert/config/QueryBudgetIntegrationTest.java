@@ -0,0 +1,129 @@
+package org.example.expert.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.NicknamePrefixIndex;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+// 엔드포인트별 SQL 실행 수를 고정해서 fetch join 누락 같은 N+1 회귀를 잡아냄 (쓰기 요청은 QueryBudgetWriteIntegrationTest)
+public class QueryBudgetIntegrationTest extends IntegrationTestSupport {
+
+	@Autowired
+	private NicknamePrefixIndex nicknamePrefixIndex;
+
+	private User owner;
+	private Todo todo;
+
+	@BeforeEach
+	void setUp() {
+		owner = saveUser("owner@test.com", "pw", "owner", UserRole.USER);
+		User commenter1 = saveUser("commenter1@test.com", "pw", "commenter1", UserRole.USER);
+		User commenter2 = saveUser("commenter2@test.com", "pw", "commenter2", UserRole.USER);
+
+		todo = saveTodo("title", "contents", "Sunny", owner);
+		saveTodo("title2", "contents2", "Rainy", commenter1);
+		saveTodo("title3", "contents3", "Cloudy", commenter2);
+		saveComment("comment1", commenter1, todo);
+		saveComment("comment2", commenter2, todo);
+		saveComment("comment3", owner, todo);
+		saveManager(commenter1, todo);
+		saveManager(commenter2, todo);
+		flushAndClear();
+	}
+
+	@Test
+	void 일정_목록은_작성자를_fetch_join으로_한_번에_조회() throws Exception {
+		// 첫 페이지가 size보다 작으면 count 쿼리도 생략됨
+		mockMvc.perform(get("/todos").param("page", "1").param("size", "10")
+				.with(addHeatherBearerToken(owner)))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(1));
+	}
+
+	@Test
+	void 일정_단건_조회는_한_번() throws Exception {
+		mockMvc.perform(get("/todos/{todoId}", todo.getId())
+				.with(addHeatherBearerToken(owner)))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(1));
+	}
+
+	@Test
+	void 댓글_목록은_작성자_수와_관계없이_한_번() throws Exception {
+		mockMvc.perform(get("/todos/{todoId}/comments", todo.getId())
+				.with(addHeatherBearerToken(owner)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(3))
+			.andExpect(statementCount(1));
+	}
+
+	@Test
+	void 담당자_목록은_일정_확인과_담당자_조회_두_번() throws Exception {
+		mockMvc.perform(get("/todos/{todoId}/managers", todo.getId())
+				.with(addHeatherBearerToken(owner)))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(2));
+	}
+
+	@Test
+	void 일정_cursor_목록은_count_없이_작성자를_fetch_join으로_한_번() throws Exception {
+		mockMvc.perform(get("/todos").param("cursor", "").param("size", "10")
+				.with(addHeatherBearerToken(owner)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(3))
+			.andExpect(statementCount(1));
+	}
+
+	@Test
+	void 일정_검색은_목록과_count_두_번() throws Exception {
+		mockMvc.perform(get("/todos/search").param("title", "title")
+				.with(addHeatherBearerToken(owner)))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(2));
+	}
+
+	@Test
+	void 담당자_닉네임_일정_검색은_페이지의_담당자_수_집계까지_세_번() throws Exception {
+		mockMvc.perform(get("/todos/search").param("nickname", "commenter1")
+				.with(addHeatherBearerToken(owner)))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(3));
+	}
+
+	@Test
+	void 유저_단건_조회는_한_번() throws Exception {
+		mockMvc.perform(get("/users/{userId}", owner.getId())
+				.with(addHeatherBearerToken(owner)))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(1));
+	}
+
+	@Test
+	void 닉네임_검색은_한_번() throws Exception {
+		mockMvc.perform(get("/users/search").param("nickname", "commenter1")
+				.with(addHeatherBearerToken(owner)))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(1));
+	}
+
+	@Test
+	void 닉네임_접두어_검색은_DB를_조회하지_않음() throws Exception {
+		// given
+		nicknamePrefixIndex.load();
+		flushAndClear();
+
+		// when & then
+		mockMvc.perform(get("/users/search/prefix").param("prefix", "comm")
+				.with(addHeatherBearerToken(owner)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(2))
+			.andExpect(statementCount(0));
+	}
+}
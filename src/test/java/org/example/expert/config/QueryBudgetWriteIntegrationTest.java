@@ -0,0 +1,101 @@
+package org.example.expert.config;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 쓰기 요청의 SQL 실행 수 고정. 변경 감지 UPDATE는 커밋할 때 실행되므로 테스트 트랜잭션 없이 요청 안에서 커밋시키고 직접 정리함
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class QueryBudgetWriteIntegrationTest extends IntegrationTestSupport {
+
+	private User owner;
+	private User other;
+	private Todo todo;
+
+	@BeforeEach
+	void setUp() {
+		owner = saveUser("write-owner@test.com", "pw", "writeOwner", UserRole.ADMIN);
+		other = saveUser("write-other@test.com", "pw", "writeOther", UserRole.USER);
+		todo = saveTodo("title", "contents", "Sunny", owner);
+	}
+
+	@AfterEach
+	void tearDown() {
+		commentRepository.deleteAllInBatch();
+		managerRepository.deleteAllInBatch();
+		// 제목 trigram 행도 함께 지우도록 엔티티 단위로 삭제
+		todoRepository.deleteAll();
+		userRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void 일정_등록은_일정과_작성자_담당자_insert_두_번() throws Exception {
+		// 제목 trigram은 글자 수만큼 행이 늘어나므로 trigram이 없는 두 글자 제목으로 고정
+		mockMvc.perform(post("/todos")
+				.with(addHeatherBearerToken(owner))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new TodoSaveRequest("할일", "contents")))
+				.with(csrf()))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(2));
+	}
+
+	@Test
+	void 댓글_등록은_일정_확인_insert_카운터_증가_세_번() throws Exception {
+		mockMvc.perform(post("/todos/{todoId}/comments", todo.getId())
+				.with(addHeatherBearerToken(other))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new CommentSaveRequest("comment")))
+				.with(csrf()))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(3));
+	}
+
+	@Test
+	void 담당자_등록은_로그_일정_유저_확인_insert_카운터_증가_다섯_번() throws Exception {
+		mockMvc.perform(post("/todos/{todoId}/managers", todo.getId())
+				.with(addHeatherBearerToken(owner))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new ManagerSaveRequest(other.getId())))
+				.with(csrf()))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(5));
+	}
+
+	@Test
+	void 권한_변경은_조회와_커밋_시_update_두_번() throws Exception {
+		mockMvc.perform(patch("/admin/users/{userId}", other.getId())
+				.with(addHeatherBearerToken(owner))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new UserRoleChangeRequest("ADMIN")))
+				.with(csrf()))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(2));
+	}
+
+	@Test
+	void 회원가입은_이메일_필터로_중복_조회를_생략하고_insert_한_번() throws Exception {
+		mockMvc.perform(post("/auth/signup")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new SignupRequest("write-signup@test.com", "pw", "writeSignup", UserRole.USER.name())))
+				.with(csrf()))
+			.andExpect(status().isOk())
+			.andExpect(statementCount(1));
+	}
+}
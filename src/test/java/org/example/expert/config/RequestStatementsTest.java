@@ -0,0 +1,86 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.example.expert.domain.common.exception.QueryBudgetExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestStatementsTest {
+
+	private final RequestStatementInspector inspector = new RequestStatementInspector();
+
+	@AfterEach
+	void tearDown() {
+		RequestStatements.end();
+	}
+
+	@Test
+	public void 요청_밖에서_실행된_SQL은_세지_않음() {
+		// when
+		String sql = inspector.inspect("select u.id from users u where u.id=?");
+
+		// then
+		assertThat(sql).isEqualTo("select u.id from users u where u.id=?");
+		assertThat(RequestStatements.current()).isNull();
+	}
+
+	@Test
+	public void IN_절_길이만_다른_SQL은_같은_모양으로_반복_집계() {
+		// given
+		RequestStatements statements = RequestStatements.begin(20, 3, false);
+
+		// when
+		inspector.inspect("select u.id from users u where u.id in (?)");
+		inspector.inspect("select u.id from users u where u.id in (?,?)");
+		inspector.inspect("select u.id from users u where u.id in (?, ?, ?)");
+		inspector.inspect("select t.id from todos t where t.id=?");
+
+		// then
+		assertThat(statements.getCount()).isEqualTo(4);
+		assertThat(statements.getMostRepeatedCount()).isEqualTo(3);
+		assertThat(statements.getMostRepeatedShape()).isEqualTo("select u.id from users u where u.id in (?)");
+		assertThat(statements.isRepeated()).isTrue();
+		assertThat(statements.isOverBudget()).isFalse();
+	}
+
+	@Test
+	public void LOG_모드는_예산을_넘어도_실행을_막지_않음() {
+		// given
+		RequestStatements statements = RequestStatements.begin(2, 10, false);
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			inspector.inspect("select t.id from todos t where t.id=" + i);
+		}
+
+		// then
+		assertThat(statements.isOverBudget()).isTrue();
+	}
+
+	@Test
+	public void REJECT_모드는_예산을_넘는_SQL에서_중단() {
+		// given
+		RequestStatements.begin(2, 10, true);
+		inspector.inspect("select 1");
+		inspector.inspect("select 2");
+
+		// when & then
+		assertThatThrownBy(() -> inspector.inspect("select 3"))
+			.isInstanceOf(QueryBudgetExceededException.class)
+			.hasMessage("요청당 SQL 실행 한도(2건)를 초과했습니다.");
+	}
+
+	@Test
+	public void REJECT_모드는_같은_SQL이_반복되면_N_plus_1로_중단() {
+		// given
+		RequestStatements.begin(20, 3, true);
+		inspector.inspect("select u.id from users u where u.id=?");
+		inspector.inspect("select u.id from users u where u.id=?");
+
+		// when & then
+		assertThatThrownBy(() -> inspector.inspect("select u.id from users u where u.id=?"))
+			.isInstanceOf(QueryBudgetExceededException.class)
+			.hasMessage("같은 SQL이 3회 반복 실행되었습니다. (N+1 의심)");
+	}
+}
@@ -8,11 +8,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.service.AuthRateLimiter;
 import org.example.expert.domain.auth.service.AuthService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.support.ControllerTestSupport;
 import org.junit.jupiter.api.Test;
@@ -26,13 +31,16 @@ public class AuthControllerTest extends ControllerTestSupport {
 	@MockBean
 	private AuthService authService;
 
+	@MockBean
+	private AuthRateLimiter authRateLimiter;
+
 	@Test
 	void signup에_성공한다() throws Exception {
 		// given
 		SignupRequest signupRequest = new SignupRequest("user@test.com", "pw", "user", UserRole.USER.name());
 
 		String bearerToken = "Bearer XXXXX.XXXX.XXX";
-		SignupResponse response = new SignupResponse(bearerToken);
+		SignupResponse response = new SignupResponse(bearerToken, "refresh-token");
 
 		given(authService.signup(any(SignupRequest.class))).willReturn(response);
 
@@ -67,7 +75,7 @@ public class AuthControllerTest extends ControllerTestSupport {
 		SigninRequest signinRequest = new SigninRequest("user@test.com", "pw");
 
 		String bearerToken = "Bearer XXXXX.XXXX.XXX";
-		SigninResponse response = new SigninResponse(bearerToken);
+		SigninResponse response = new SigninResponse(bearerToken, "refresh-token");
 
 		given(authService.signin(any(SigninRequest.class))).willReturn(response);
 
@@ -111,4 +119,74 @@ public class AuthControllerTest extends ControllerTestSupport {
 				.with(csrf()))
 			.andExpect(status().isUnauthorized());
 	}
+
+	@Test
+	void signin_비밀번호_해시_대기열이_가득_찬_경우_503을_반환한다() throws Exception {
+		// given
+		SigninRequest signinRequest = new SigninRequest("user@test.com", "pw");
+
+		given(authService.signin(any(SigninRequest.class)))
+			.willThrow(new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해주세요."));
+
+		// when & then
+		mockMvc.perform(post("/auth/signin")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(signinRequest))
+				.with(csrf()))
+			.andExpect(status().isServiceUnavailable())
+			.andExpect(jsonPath("$.code").value(503));
+	}
+
+	@Test
+	void signin_요청이_너무_많으면_서비스_호출_없이_429를_반환한다() throws Exception {
+		// given
+		SigninRequest signinRequest = new SigninRequest("user@test.com", "pw");
+
+		willThrow(new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."))
+			.given(authRateLimiter).checkSignin(eq("user@test.com"), anyString());
+
+		// when & then
+		mockMvc.perform(post("/auth/signin")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(signinRequest))
+				.with(csrf()))
+			.andExpect(status().isTooManyRequests());
+		then(authService).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void refresh에_성공한다() throws Exception {
+		// given
+		TokenRefreshRequest tokenRefreshRequest = new TokenRefreshRequest("refresh-token");
+
+		String bearerToken = "Bearer XXXXX.XXXX.XXX";
+		TokenRefreshResponse response = new TokenRefreshResponse(bearerToken, "new-refresh-token");
+
+		given(authService.refresh(any(TokenRefreshRequest.class))).willReturn(response);
+
+		// when & then
+		mockMvc.perform(post("/auth/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(tokenRefreshRequest))
+				.with(csrf()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.bearerToken").value(bearerToken))
+			.andExpect(jsonPath("$.refreshToken").value("new-refresh-token"));
+	}
+
+	@Test
+	void refresh_만료된_refresh_token이면_401을_반환한다() throws Exception {
+		// given
+		TokenRefreshRequest tokenRefreshRequest = new TokenRefreshRequest("refresh-token");
+
+		given(authService.refresh(any(TokenRefreshRequest.class)))
+			.willThrow(new AuthException("만료된 refresh token입니다. 다시 로그인해주세요."));
+
+		// when & then
+		mockMvc.perform(post("/auth/refresh")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(tokenRefreshRequest))
+				.with(csrf()))
+			.andExpect(status().isUnauthorized());
+	}
 }
@@ -0,0 +1,72 @@
+package org.example.expert.domain.auth.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * MockMvc는 Tomcat을 거치지 않아 RemoteIpValve가 적용되지 않으므로 실제 포트로 띄워 X-Forwarded-For 처리를 확인한다.
+ * 테스트 클라이언트는 loopback에서 접속하므로 기본 internal-proxies 설정으로 신뢰 프록시로 취급된다.
+ */
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"server.forward-headers-strategy=native",
+		"auth.rate-limit.ip.capacity=2",
+		"auth.rate-limit.ip.refill-interval=PT1H",
+		"auth.rate-limit.email.capacity=100"
+	})
+@ActiveProfiles("test")
+public class AuthRateLimitClientIpTest {
+
+	@Autowired
+	TestRestTemplate restTemplate;
+
+	@Test
+	void 로드_밸런서_뒤에서도_X_Forwarded_For의_클라이언트_IP별로_로그인을_제한한다() {
+		// given
+		HttpStatusCode first = signin("a@example.com", "203.0.113.1");
+		HttpStatusCode second = signin("b@example.com", "203.0.113.1");
+
+		// when
+		HttpStatusCode third = signin("c@example.com", "203.0.113.1");
+		HttpStatusCode otherClient = signin("d@example.com", "203.0.113.2");
+
+		// then
+		assertThat(first).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(second).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(third).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(otherClient).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+	}
+
+	@Test
+	void 클라이언트가_X_Forwarded_For_앞쪽에_넣은_IP로는_제한을_피할_수_없다() {
+		// given
+		signin("e@example.com", "203.0.113.3");
+		signin("f@example.com", "203.0.113.3");
+
+		// when
+		HttpStatusCode spoofed = signin("g@example.com", "198.51.100.9, 203.0.113.3");
+
+		// then
+		assertThat(spoofed).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+	}
+
+	private HttpStatusCode signin(String email, String forwardedFor) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.set("X-Forwarded-For", forwardedFor);
+		HttpEntity<SigninRequest> request = new HttpEntity<>(new SigninRequest(email, "pw"), headers);
+		return restTemplate.postForEntity("/auth/signin", request, String.class).getStatusCode();
+	}
+}
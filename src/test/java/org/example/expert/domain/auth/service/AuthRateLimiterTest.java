@@ -0,0 +1,76 @@
+package org.example.expert.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+public class AuthRateLimiterTest {
+
+	@Test
+	public void 같은_이메일로_허용량을_넘으면_429_예외() {
+		// given
+		AuthRateLimiter authRateLimiter = new AuthRateLimiter(true, 3, Duration.ofMinutes(1), 100, Duration.ofMinutes(1));
+		for (int i = 0; i < 3; i++) {
+			authRateLimiter.checkSignin("User@Test.com", "10.0.0." + i);
+		}
+
+		// when & then (대소문자가 달라도 같은 이메일로 취급)
+		assertThatThrownBy(() -> authRateLimiter.checkSignin("user@test.com", "10.0.0.9"))
+			.isInstanceOf(TooManyRequestsException.class);
+	}
+
+	@Test
+	public void 같은_IP로_허용량을_넘으면_429_예외() {
+		// given
+		AuthRateLimiter authRateLimiter = new AuthRateLimiter(true, 100, Duration.ofMinutes(1), 2, Duration.ofMinutes(1));
+		authRateLimiter.checkSignin("user1@test.com", "10.0.0.1");
+		authRateLimiter.checkSignin("user2@test.com", "10.0.0.1");
+
+		// when & then
+		assertThatThrownBy(() -> authRateLimiter.checkSignin("user3@test.com", "10.0.0.1"))
+			.isInstanceOf(TooManyRequestsException.class);
+		assertThatCode(() -> authRateLimiter.checkSignin("user3@test.com", "10.0.0.2"))
+			.doesNotThrowAnyException();
+	}
+
+	@Test
+	public void signin과_signup은_버킷을_따로_사용() {
+		// given
+		AuthRateLimiter authRateLimiter = new AuthRateLimiter(true, 1, Duration.ofMinutes(1), 1, Duration.ofMinutes(1));
+		authRateLimiter.checkSignin("user@test.com", "10.0.0.1");
+
+		// when & then
+		assertThatCode(() -> authRateLimiter.checkSignup("user@test.com", "10.0.0.1"))
+			.doesNotThrowAnyException();
+	}
+
+	@Test
+	public void 다시_채워진_버킷은_제거() throws Exception {
+		// given
+		AuthRateLimiter authRateLimiter = new AuthRateLimiter(true, 5, Duration.ofMillis(1), 5, Duration.ofMillis(1));
+		authRateLimiter.checkSignin("user@test.com", "10.0.0.1");
+		Thread.sleep(10);
+
+		// when
+		authRateLimiter.evictIdleBuckets();
+
+		// then
+		assertThat(authRateLimiter.bucketCount()).isZero();
+	}
+
+	@Test
+	public void 비활성화하면_제한하지_않음() {
+		// given
+		AuthRateLimiter authRateLimiter = new AuthRateLimiter(false, 1, Duration.ofMinutes(1), 1, Duration.ofMinutes(1));
+
+		// when & then
+		assertThatCode(() -> {
+			for (int i = 0; i < 10; i++) {
+				authRateLimiter.checkSignin("user@test.com", "10.0.0.1");
+			}
+		}).doesNotThrowAnyException();
+	}
+}
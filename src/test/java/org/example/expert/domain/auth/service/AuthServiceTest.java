@@ -9,21 +9,29 @@ import java.util.Optional;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.example.expert.domain.user.service.NicknamePrefixIndex;
+import org.example.expert.domain.user.service.NicknameSnapshot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import io.jsonwebtoken.MalformedJwtException;
+
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
 	@Mock
@@ -35,6 +43,15 @@ public class AuthServiceTest {
 	@Mock
 	private JwtUtil jwtUtil;
 
+	@Mock
+	private EmailBloomFilter emailBloomFilter;
+
+	@Mock
+	private NicknamePrefixIndex nicknamePrefixIndex;
+
+	@Mock
+	private NicknameSnapshot nicknameSnapshot;
+
 	@InjectMocks
 	private AuthService authService;
 
@@ -42,6 +59,7 @@ public class AuthServiceTest {
 	public void signup_성공_시_토큰_반환() {
 		//given
 		SignupRequest signupRequest = new SignupRequest("user@test.com", "pw" ,"user", UserRole.USER.name());
+		given(emailBloomFilter.mightContain(eq(signupRequest.getEmail()))).willReturn(true);
 		given(userRepository.existsByEmail(eq(signupRequest.getEmail()))).willReturn(false);
 
 		String hashedPassword = "hashedPw";
@@ -50,9 +68,10 @@ public class AuthServiceTest {
 		User user = new User(signupRequest.getEmail(), signupRequest.getPassword(), signupRequest.getNickname(), UserRole.USER);
 		ReflectionTestUtils.setField(user, "id", 1L);
 		given(userRepository.save(any(User.class))).willReturn(user);
+		given(jwtUtil.createRefreshToken(eq(user.getId()), eq(0L))).willReturn("refresh-token");
 
 		String bearerToken = "Bearer XXXXX.XXXX.XXX";
-		given(jwtUtil.createToken(eq(user.getId()), eq(user.getEmail()), eq(user.getNickname()), eq(UserRole.USER))).willReturn(
+		given(jwtUtil.createToken(eq(user.getId()), eq(user.getEmail()), eq(user.getNickname()), eq(UserRole.USER), eq(0L))).willReturn(
 			bearerToken);
 
 		//when
@@ -61,12 +80,52 @@ public class AuthServiceTest {
 		//then
 		assertThat(signupResponse).isNotNull();
 		assertThat(signupResponse.getBearerToken()).isEqualTo(bearerToken);
+		assertThat(signupResponse.getRefreshToken()).isEqualTo("refresh-token");
+		verify(emailBloomFilter).put(user.getEmail());
+		verify(nicknamePrefixIndex).add(user.getId(), user.getNickname());
+	}
+
+	@Test
+	public void signup_필터에_없는_이메일은_존재_여부_조회_생략() {
+		//given
+		SignupRequest signupRequest = new SignupRequest("new@test.com", "pw" ,"user", UserRole.USER.name());
+		given(emailBloomFilter.mightContain(eq(signupRequest.getEmail()))).willReturn(false);
+		given(passwordEncoder.encode(eq(signupRequest.getPassword()))).willReturn("hashedPw");
+
+		User user = new User(signupRequest.getEmail(), "hashedPw", signupRequest.getNickname(), UserRole.USER);
+		ReflectionTestUtils.setField(user, "id", 1L);
+		given(userRepository.save(any(User.class))).willReturn(user);
+		given(jwtUtil.createToken(eq(user.getId()), eq(user.getEmail()), eq(user.getNickname()), eq(UserRole.USER), eq(0L))).willReturn(
+			"Bearer XXXXX.XXXX.XXX");
+
+		//when
+		authService.signup(signupRequest);
+
+		//then
+		verify(userRepository, never()).existsByEmail(anyString());
+		verify(emailBloomFilter).put(user.getEmail());
+	}
+
+	@Test
+	public void signup_동시_가입으로_unique_제약_위반_시_400_반환() {
+		//given
+		SignupRequest signupRequest = new SignupRequest("user@test.com", "pw" ,"user", UserRole.USER.name());
+		given(emailBloomFilter.mightContain(eq(signupRequest.getEmail()))).willReturn(false);
+		given(passwordEncoder.encode(eq(signupRequest.getPassword()))).willReturn("hashedPw");
+		given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate email"));
+
+		//when & then
+		assertThatThrownBy(() -> authService.signup(signupRequest))
+			.isInstanceOf(InvalidRequestException.class)
+			.hasMessage("이미 존재하는 이메일입니다.");
+		verify(emailBloomFilter, never()).put(anyString());
 	}
 
 	@Test
 	public void signup_중복_이메일_시_400_반환() {
 		//given
 		SignupRequest signupRequest = new SignupRequest("user@test.com", "pw" ,"user", UserRole.USER.name());
+		given(emailBloomFilter.mightContain(eq(signupRequest.getEmail()))).willReturn(true);
 		given(userRepository.existsByEmail(eq(signupRequest.getEmail()))).willReturn(true);
 
 		//when & then
@@ -87,7 +146,7 @@ public class AuthServiceTest {
 		given(passwordEncoder.matches(eq(signinRequest.getPassword()), eq(user.getPassword()))).willReturn(true);
 
 		String bearerToken = "Bearer XXXXX.XXXX.XXX";
-		given(jwtUtil.createToken(eq(user.getId()), eq(user.getEmail()), eq(user.getNickname()), eq(UserRole.USER))).willReturn(
+		given(jwtUtil.createToken(eq(user.getId()), eq(user.getEmail()), eq(user.getNickname()), eq(UserRole.USER), eq(0L))).willReturn(
 			bearerToken);
 
 		//when
@@ -98,6 +157,57 @@ public class AuthServiceTest {
 		assertThat(signinResponse.getBearerToken()).isEqualTo(bearerToken);
 	}
 
+	@Test
+	public void refresh_성공_시_현재_역할로_토큰_재발급() {
+		//given
+		User user = new User("user@test.com", "pw", "user", UserRole.ADMIN);
+		ReflectionTestUtils.setField(user, "id", 1L);
+		ReflectionTestUtils.setField(user, "tokenVersion", 2L);
+
+		given(jwtUtil.parseRefreshToken(eq("refresh-token"))).willReturn(new JwtUtil.RefreshTokenClaims(1L, 2L));
+		given(userRepository.findById(eq(1L))).willReturn(Optional.of(user));
+
+		String bearerToken = "Bearer XXXXX.XXXX.XXX";
+		given(jwtUtil.createToken(eq(1L), eq(user.getEmail()), eq(user.getNickname()), eq(UserRole.ADMIN), eq(2L))).willReturn(
+			bearerToken);
+		given(jwtUtil.createRefreshToken(eq(1L), eq(2L))).willReturn("new-refresh-token");
+
+		//when
+		TokenRefreshResponse tokenRefreshResponse = authService.refresh(new TokenRefreshRequest("refresh-token"));
+
+		//then
+		assertThat(tokenRefreshResponse.getBearerToken()).isEqualTo(bearerToken);
+		assertThat(tokenRefreshResponse.getRefreshToken()).isEqualTo("new-refresh-token");
+	}
+
+	@Test
+	public void refresh_토큰_버전이_다르면_401_반환() {
+		//given
+		User user = new User("user@test.com", "pw", "user", UserRole.ADMIN);
+		ReflectionTestUtils.setField(user, "id", 1L);
+		ReflectionTestUtils.setField(user, "tokenVersion", 1L);
+
+		given(jwtUtil.parseRefreshToken(eq("refresh-token"))).willReturn(new JwtUtil.RefreshTokenClaims(1L, 0L));
+		given(userRepository.findById(eq(1L))).willReturn(Optional.of(user));
+
+		//when & then
+		assertThatThrownBy(() -> authService.refresh(new TokenRefreshRequest("refresh-token")))
+			.isInstanceOf(AuthException.class)
+			.hasMessage("만료된 refresh token입니다. 다시 로그인해주세요.");
+	}
+
+	@Test
+	public void refresh_잘못된_토큰이면_401_반환() {
+		//given
+		given(jwtUtil.parseRefreshToken(eq("invalid"))).willThrow(new MalformedJwtException("invalid"));
+
+		//when & then
+		assertThatThrownBy(() -> authService.refresh(new TokenRefreshRequest("invalid")))
+			.isInstanceOf(AuthException.class)
+			.hasMessage("유효하지 않은 refresh token입니다.");
+		verify(userRepository, never()).findById(anyLong());
+	}
+
 	@Test
 	public void signin_이메일_존재하지_않는_경우_400_반환() {
 		//given
@@ -0,0 +1,92 @@
+package org.example.expert.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TokenRevocationRegistryTest {
+
+	@AfterEach
+	public void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void 폐기된_버전보다_낮은_토큰만_거절() {
+		// given
+		TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(Duration.ofMinutes(15));
+
+		// when
+		tokenRevocationRegistry.revokeBefore(1L, 2L);
+
+		// then
+		assertThat(tokenRevocationRegistry.isRevoked(1L, 0L)).isTrue();
+		assertThat(tokenRevocationRegistry.isRevoked(1L, 1L)).isTrue();
+		assertThat(tokenRevocationRegistry.isRevoked(1L, 2L)).isFalse();
+		assertThat(tokenRevocationRegistry.isRevoked(2L, 0L)).isFalse();
+	}
+
+	@Test
+	public void 늦게_도착한_낮은_버전으로_덮어쓰지_않음() {
+		// given
+		TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(Duration.ofMinutes(15));
+		tokenRevocationRegistry.revokeBefore(1L, 3L);
+
+		// when
+		tokenRevocationRegistry.revokeBefore(1L, 2L);
+
+		// then
+		assertThat(tokenRevocationRegistry.isRevoked(1L, 2L)).isTrue();
+	}
+
+	@Test
+	public void access_token_TTL이_지난_항목은_정리() {
+		// given
+		TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(Duration.ZERO);
+		tokenRevocationRegistry.revokeBefore(1L, 1L);
+
+		// when
+		tokenRevocationRegistry.evictExpired();
+
+		// then
+		assertThat(tokenRevocationRegistry.size()).isZero();
+	}
+
+	@Test
+	public void 트랜잭션_안에서_폐기하면_커밋_후에_반영() {
+		// given
+		TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(Duration.ofMinutes(15));
+		TransactionSynchronizationManager.initSynchronization();
+
+		// when
+		tokenRevocationRegistry.revokeBefore(1L, 2L);
+		boolean revokedBeforeCommit = tokenRevocationRegistry.isRevoked(1L, 1L);
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// then
+		assertThat(revokedBeforeCommit).isFalse();
+		assertThat(tokenRevocationRegistry.isRevoked(1L, 1L)).isTrue();
+	}
+
+	@Test
+	public void 트랜잭션이_롤백되면_폐기하지_않음() {
+		// given
+		TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(Duration.ofMinutes(15));
+		TransactionSynchronizationManager.initSynchronization();
+
+		// when
+		tokenRevocationRegistry.revokeBefore(1L, 2L);
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		// then
+		assertThat(tokenRevocationRegistry.isRevoked(1L, 1L)).isFalse();
+	}
+}
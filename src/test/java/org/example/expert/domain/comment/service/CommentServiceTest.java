@@ -64,6 +64,7 @@ public class CommentServiceTest {
 		assertThat(commentSaveResponse.getContents()).isEqualTo("contents");
 		assertThat(commentSaveResponse.getUser().getEmail()).isEqualTo(userEntity.getEmail());
 		verify(commentRepository).save(any(Comment.class));
+		verify(todoRepository).increaseCommentCount(todo.getId());
 	}
 
 	@Test
@@ -76,6 +76,7 @@ public class ManagerServiceTest {
 		assertThat(managerSaveResponse.getUser().getId()).isEqualTo(managerUserId);
 		assertThat(managerSaveResponse.getUser().getEmail()).isEqualTo("managerUser@test.com");
 		verify(logService).logSaveManager(userId, managerUserId, todoId);
+		verify(todoRepository).increaseManagerCount(todoId);
 	}
 
 	@Test
@@ -231,6 +232,7 @@ public class ManagerServiceTest {
 
 		// then
 		then(managerRepository).should().delete(eq(manager));
+		then(todoRepository).should().decreaseManagerCount(todoId);
 	}
 
 	@Test
@@ -0,0 +1,126 @@
+package org.example.expert.domain.todo.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.example.expert.domain.todo.dto.request.TodoCursor;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("bulk")
+public class TodoBulkInsertAndPaginationTest extends IntegrationTestSupport {
+	@Autowired
+	DataSource dataSource;
+
+	private static final int PAGE_SIZE = 10;
+	private static final int DEEP_PAGE = 10_000;
+	private static final int RUNS = 5;
+
+	@Test
+	@Disabled
+	void insertMassiveTodos() throws Exception {
+		final long TOTAL = 1_000_000L;
+		final int BATCH = 10_000;
+		LocalDateTime base = LocalDateTime.now().minusYears(1);
+
+		try (Connection connection = dataSource.getConnection()) {
+			long ownerId = insertOwner(connection);
+			boolean prevAutoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			String query = "INSERT INTO todos (title, contents, weather, weather_pending, user_id, created_at, modified_at) "
+				+ "VALUES (?, ?, ?, false, ?, ?, ?)";
+			try (PreparedStatement psmt = connection.prepareStatement(query)) {
+				for (long i = 1; i <= TOTAL; i++) {
+					Timestamp timestamp = Timestamp.valueOf(base.plusSeconds(i * 30));
+					psmt.setString(1, "title" + i);
+					psmt.setString(2, "contents" + i);
+					psmt.setString(3, i % 2 == 0 ? "Sunny" : "Cloudy");
+					psmt.setLong(4, ownerId);
+					psmt.setTimestamp(5, timestamp);
+					psmt.setTimestamp(6, timestamp);
+					psmt.addBatch();
+
+					if (i % BATCH == 0) {
+						psmt.executeBatch();
+						connection.commit();
+					}
+				}
+				psmt.executeBatch();
+				connection.commit();
+			} catch (Exception e) {
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(prevAutoCommit);
+			}
+		}
+	}
+
+	private long insertOwner(Connection connection) throws Exception {
+		String query = "INSERT INTO users (email, password, nickname, user_role) VALUES ('todo-owner@test.com', 'pw', 'owner', 'USER')";
+		try (PreparedStatement psmt = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+			psmt.executeUpdate();
+			try (ResultSet keys = psmt.getGeneratedKeys()) {
+				keys.next();
+				return keys.getLong(1);
+			}
+		}
+	}
+
+	@Test
+	@Disabled
+	void compareOffsetAndCursorPagination() throws Exception {
+		User authUser = saveUser("todo-reader@test.com", "pw", "reader", UserRole.USER);
+		String deepCursor = findCursorBefore((long) (DEEP_PAGE - 1) * PAGE_SIZE);
+
+		log.info("offset page 1      : {} ms", measure(get("/todos").param("page", "1").param("size", String.valueOf(PAGE_SIZE)), authUser));
+		log.info("offset page {}: {} ms", DEEP_PAGE, measure(get("/todos").param("page", String.valueOf(DEEP_PAGE)).param("size", String.valueOf(PAGE_SIZE)), authUser));
+		log.info("cursor page 1      : {} ms", measure(get("/todos").param("cursor", "").param("size", String.valueOf(PAGE_SIZE)), authUser));
+		log.info("cursor page {}: {} ms", DEEP_PAGE, measure(get("/todos").param("cursor", deepCursor).param("size", String.valueOf(PAGE_SIZE)), authUser));
+	}
+
+	private double measure(MockHttpServletRequestBuilder request, User authUser) throws Exception {
+		request.with(addHeatherBearerToken(authUser));
+		long total = 0;
+		for (int i = 0; i < RUNS; i++) {
+			long start = System.nanoTime();
+			mockMvc.perform(request)
+				.andExpect(status().isOk());
+			total += System.nanoTime() - start;
+		}
+		return total / (RUNS * 1_000_000.0);
+	}
+
+	// 앞 페이지를 모두 넘긴 것과 같은 위치의 cursor (측정 시간에서 제외)
+	private String findCursorBefore(long offset) throws Exception {
+		String query = "SELECT id, modified_at FROM todos ORDER BY modified_at DESC, id DESC LIMIT 1 OFFSET ?";
+		try (Connection connection = dataSource.getConnection();
+			 PreparedStatement psmt = connection.prepareStatement(query)) {
+			psmt.setLong(1, offset - 1);
+			try (ResultSet rs = psmt.executeQuery()) {
+				rs.next();
+				return new TodoCursor(rs.getTimestamp("modified_at").toLocalDateTime(), rs.getLong("id")).encode();
+			}
+		}
+	}
+}
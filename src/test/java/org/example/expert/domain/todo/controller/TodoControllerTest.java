@@ -5,15 +5,20 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -26,9 +31,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.TestSecurityContextHolder;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(TodoController.class)
 class TodoControllerTest extends ControllerTestSupport {
@@ -36,6 +43,9 @@ class TodoControllerTest extends ControllerTestSupport {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoExportService todoExportService;
+
     @Test
     @WithMockAuthUser(userId = 1L, email = "admin@example.com", nickname = "admin", userRole = UserRole.ADMIN)
     void todo_생성에_성공한다() throws Exception {
@@ -104,6 +114,58 @@ class TodoControllerTest extends ControllerTestSupport {
             .andExpect(jsonPath("$.page.totalPages").value(0));
     }
 
+    @Test
+    @WithMockAuthUser(userId = 1L, email = "admin@example.com", nickname = "admin", userRole = UserRole.ADMIN)
+    void todo_cursor가_있으면_cursor_페이징으로_목록조회에_성공한다() throws Exception {
+        // given
+        CursorPageResponse<TodoResponse> response = new CursorPageResponse<>(List.of(), "next-cursor");
+        given(todoService.getTodosByCursor(eq(""), eq(10), isNull(LocalDate.class), isNull(LocalDate.class), isNull()))
+            .willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/todos")
+                .param("cursor", ""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content").isArray())
+            .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.page").doesNotExist());
+    }
+
+    @Test
+    @WithMockAuthUser(userId = 1L, email = "admin@example.com", nickname = "admin", userRole = UserRole.ADMIN)
+    void todo_export를_csv로_스트리밍한다() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(4);
+            outputStream.write("id,title\n1,title\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(todoExportService).exportTodos(isNull(), isNull(), eq("Sunny"), eq(TodoExportFormat.CSV), any(OutputStream.class));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/todos/export")
+                .param("format", "csv")
+                .param("weather", "Sunny"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.csv\""))
+            .andExpect(content().string("id,title\n1,title\n"));
+    }
+
+    @Test
+    @WithMockAuthUser(userId = 1L, email = "admin@example.com", nickname = "admin", userRole = UserRole.ADMIN)
+    void todo_export_형식이_잘못되면_400을_반환한다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/todos/export")
+                .param("format", "xml"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockAuthUser(userId = 1L, email = "admin@example.com", nickname = "admin", userRole = UserRole.ADMIN)
     void todo_단건조회에_성공한다() throws Exception {
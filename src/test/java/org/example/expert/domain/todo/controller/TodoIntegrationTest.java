@@ -97,6 +97,36 @@ public class TodoIntegrationTest extends IntegrationTestSupport {
 			.andExpect(jsonPath("$.page.size").value(10));
 	}
 
+	@Test
+	void Todo_cursor_페이징으로_목록조회를_성공한다() throws Exception {
+		// given
+		User user = saveUser("user@test.com", "pw", "user", UserRole.USER);
+		saveTodo("title", "contents", "Sunny", user);
+		saveTodo("title2", "contents2", "Sunny", user);
+		saveTodo("title3", "contents3", "Sunny", user);
+
+		// when
+		String firstPage = mockMvc.perform(get("/todos")
+				.param("cursor", "")
+				.param("size", "2")
+				.with(addHeatherBearerToken(user)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content", hasSize(2)))
+			.andExpect(jsonPath("$.hasNext").value(true))
+			.andReturn().getResponse().getContentAsString();
+		String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+		// then
+		mockMvc.perform(get("/todos")
+				.param("cursor", nextCursor)
+				.param("size", "2")
+				.with(addHeatherBearerToken(user)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content", hasSize(1)))
+			.andExpect(jsonPath("$.hasNext").value(false))
+			.andExpect(jsonPath("$.nextCursor").doesNotExist());
+	}
+
 	@Test
 	void 단일_Todo_조회를_성공한다() throws Exception {
 		// given
@@ -173,4 +203,52 @@ public class TodoIntegrationTest extends IntegrationTestSupport {
 			.andExpect(jsonPath("$.page.number").value(0))
 			.andExpect(jsonPath("$.page.size").value(10));
 	}
+
+	@Test
+	void Todo_제목_일부를_대소문자_구분_없이_검색한다() throws Exception {
+		// given
+		User user = saveUser("user@test.com", "pw", "user", UserRole.USER);
+		saveTodo("Weekly Report", "contents", "Sunny", user);
+		saveTodo("weekly meeting", "contents", "Sunny", user);
+		saveTodo("ab", "contents", "Sunny", user);
+
+		// when & then
+		mockMvc.perform(get("/todos/search")
+				.param("title", "REPORT")
+				.with(addHeatherBearerToken(user)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content", hasSize(1)))
+			.andExpect(jsonPath("$.content[0].title").value("Weekly Report"));
+
+		mockMvc.perform(get("/todos/search")
+				.param("title", "b")
+				.with(addHeatherBearerToken(user)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content", hasSize(1)))
+			.andExpect(jsonPath("$.content[0].title").value("ab"));
+	}
+
+	@Test
+	void 이모지와_악센트가_섞인_제목도_저장하고_검색한다() throws Exception {
+		// given
+		User user = saveUser("user@test.com", "pw", "user", UserRole.USER);
+		saveTodo("Café ☕ 회의 😀", "contents", "Sunny", user);
+		saveTodo("ABÇ abc déjà vu", "contents", "Sunny", user);
+		flushAndClear();
+
+		// when & then
+		mockMvc.perform(get("/todos/search")
+				.param("title", "회의 😀")
+				.with(addHeatherBearerToken(user)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content", hasSize(1)))
+			.andExpect(jsonPath("$.content[0].title").value("Café ☕ 회의 😀"));
+
+		mockMvc.perform(get("/todos/search")
+				.param("title", "déjà")
+				.with(addHeatherBearerToken(user)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content", hasSize(1)))
+			.andExpect(jsonPath("$.content[0].title").value("ABÇ abc déjà vu"));
+	}
 }
@@ -0,0 +1,230 @@
+package org.example.expert.domain.todo.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.example.expert.domain.comment.entity.QComment.comment;
+import static org.example.expert.domain.manager.entity.QManager.manager;
+import static org.example.expert.domain.todo.entity.QTodo.todo;
+import static org.example.expert.domain.user.entity.QUser.user;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.TodoTitleTrigrams;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("bulk")
+public class TodoSearchBenchmarkTest extends IntegrationTestSupport {
+	@Autowired
+	DataSource dataSource;
+
+	@Autowired
+	JPAQueryFactory jpaQueryFactory;
+
+	@Autowired
+	EntityManager entityManager;
+
+	// 일정 하나당 담당자 50명, 댓글 500개 -> 기존 쿼리는 일정 하나가 25,000행으로 늘어남
+	private static final int TODOS = 200;
+	private static final int MANAGERS_PER_TODO = 50;
+	private static final int COMMENTS_PER_TODO = 500;
+	private static final int BATCH = 10_000;
+	private static final int RUNS = 5;
+
+	@Test
+	@Disabled
+	void insertSearchDataset() throws Exception {
+		LocalDateTime base = LocalDateTime.now().minusDays(1);
+
+		try (Connection connection = dataSource.getConnection()) {
+			boolean prevAutoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try {
+				List<Long> userIds = insertUsers(connection);
+				List<Long> todoIds = insertTodos(connection, userIds.get(0), base);
+				insertTitleTrigrams(connection, todoIds);
+				insertManagers(connection, userIds, todoIds);
+				insertComments(connection, userIds.get(0), todoIds, base);
+				connection.commit();
+			} catch (Exception e) {
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(prevAutoCommit);
+			}
+		}
+	}
+
+	@Test
+	@Disabled
+	void compareSingleQueryAndCounterColumnSearch() {
+		Pageable pageable = PageRequest.of(0, 10);
+
+		for (String nickname : new String[] {null, "search-manager1"}) {
+			List<TodoSearchResponse> legacy = legacySearch(nickname, pageable);
+			List<TodoSearchResponse> current = todoRepository.searchTodosOrderByCreatedAtDesc(
+				"search", null, null, nickname, pageable).getContent();
+
+			assertThat(current)
+				.extracting(TodoSearchResponse::getTitle, TodoSearchResponse::getManagerCount, TodoSearchResponse::getCommentCount)
+				.containsExactlyElementsOf(legacy.stream()
+					.map(r -> tuple(r.getTitle(), r.getManagerCount(), r.getCommentCount()))
+					.toList());
+
+			log.info("nickname={} single query : {} ms", nickname, measure(() -> legacySearch(nickname, pageable)));
+			log.info("nickname={} current      : {} ms", nickname, measure(() -> todoRepository.searchTodosOrderByCreatedAtDesc(
+				"search", null, null, nickname, pageable).getContent()));
+		}
+	}
+
+	// 변경 전 단일 쿼리 (todo x managers x users x comments 조인 후 GROUP BY)
+	private List<TodoSearchResponse> legacySearch(String nickname, Pageable pageable) {
+		return jpaQueryFactory.select(Projections.constructor(
+				TodoSearchResponse.class,
+				todo.title,
+				manager.id.countDistinct(),
+				comment.id.countDistinct()
+			))
+			.from(todo)
+			.leftJoin(todo.managers, manager)
+			.leftJoin(manager.user, user)
+			.leftJoin(todo.comments, comment)
+			.where(
+				todo.title.containsIgnoreCase("search"),
+				nickname == null ? null : user.nickname.containsIgnoreCase(nickname)
+			)
+			.groupBy(todo.id, todo.title)
+			.orderBy(todo.createdAt.desc())
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+	}
+
+	private double measure(Supplier<List<TodoSearchResponse>> search) {
+		long total = 0;
+		for (int i = 0; i < RUNS; i++) {
+			entityManager.clear();
+			long start = System.nanoTime();
+			search.get();
+			total += System.nanoTime() - start;
+		}
+		return total / (RUNS * 1_000_000.0);
+	}
+
+	private List<Long> insertUsers(Connection connection) throws Exception {
+		String query = "INSERT INTO users (email, password, nickname, user_role) VALUES (?, 'pw', ?, 'USER')";
+		List<Long> userIds = new ArrayList<>();
+		try (PreparedStatement psmt = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+			for (int i = 1; i <= MANAGERS_PER_TODO; i++) {
+				psmt.setString(1, "search-manager" + i + "@test.com");
+				psmt.setString(2, "search-manager" + i);
+				psmt.executeUpdate();
+				try (ResultSet keys = psmt.getGeneratedKeys()) {
+					keys.next();
+					userIds.add(keys.getLong(1));
+				}
+			}
+		}
+		return userIds;
+	}
+
+	private List<Long> insertTodos(Connection connection, long ownerId, LocalDateTime base) throws Exception {
+		// 담당자/댓글 카운터 컬럼은 아래에서 넣는 행 수와 맞춰 둠
+		String query = "INSERT INTO todos (title, contents, weather, weather_pending, user_id, created_at, modified_at, manager_count, comment_count) "
+			+ "VALUES (?, 'contents', 'Sunny', false, ?, ?, ?, " + MANAGERS_PER_TODO + ", " + COMMENTS_PER_TODO + ")";
+		List<Long> todoIds = new ArrayList<>();
+		try (PreparedStatement psmt = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+			for (int i = 1; i <= TODOS; i++) {
+				Timestamp timestamp = Timestamp.valueOf(base.plusSeconds(i));
+				psmt.setString(1, "search title" + i);
+				psmt.setLong(2, ownerId);
+				psmt.setTimestamp(3, timestamp);
+				psmt.setTimestamp(4, timestamp);
+				psmt.executeUpdate();
+				try (ResultSet keys = psmt.getGeneratedKeys()) {
+					keys.next();
+					todoIds.add(keys.getLong(1));
+				}
+			}
+		}
+		return todoIds;
+	}
+
+	private void insertTitleTrigrams(Connection connection, List<Long> todoIds) throws Exception {
+		String query = "INSERT INTO todo_title_trigrams (todo_id, trigram) VALUES (?, ?)";
+		try (PreparedStatement psmt = connection.prepareStatement(query)) {
+			for (int i = 0; i < todoIds.size(); i++) {
+				for (String trigram : TodoTitleTrigrams.extract("search title" + (i + 1))) {
+					psmt.setLong(1, todoIds.get(i));
+					psmt.setString(2, trigram);
+					psmt.addBatch();
+				}
+			}
+			psmt.executeBatch();
+		}
+	}
+
+	private void insertManagers(Connection connection, List<Long> userIds, List<Long> todoIds) throws Exception {
+		String query = "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)";
+		try (PreparedStatement psmt = connection.prepareStatement(query)) {
+			int count = 0;
+			for (Long todoId : todoIds) {
+				for (Long userId : userIds) {
+					psmt.setLong(1, userId);
+					psmt.setLong(2, todoId);
+					psmt.addBatch();
+					if (++count % BATCH == 0) {
+						psmt.executeBatch();
+					}
+				}
+			}
+			psmt.executeBatch();
+		}
+	}
+
+	private void insertComments(Connection connection, long userId, List<Long> todoIds, LocalDateTime base) throws Exception {
+		String query = "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)";
+		Timestamp timestamp = Timestamp.valueOf(base);
+		try (PreparedStatement psmt = connection.prepareStatement(query)) {
+			int count = 0;
+			for (Long todoId : todoIds) {
+				for (int i = 1; i <= COMMENTS_PER_TODO; i++) {
+					psmt.setString(1, "comment" + i);
+					psmt.setLong(2, userId);
+					psmt.setLong(3, todoId);
+					psmt.setTimestamp(4, timestamp);
+					psmt.setTimestamp(5, timestamp);
+					psmt.addBatch();
+					if (++count % BATCH == 0) {
+						psmt.executeBatch();
+					}
+				}
+			}
+			psmt.executeBatch();
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package org.example.expert.domain.todo.controller;
+
+import static org.example.expert.domain.todo.entity.QTodo.todo;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.example.expert.domain.todo.entity.TodoTitleTrigrams;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("bulk")
+public class TodoTitleSearchBenchmarkTest extends IntegrationTestSupport {
+	@Autowired
+	DataSource dataSource;
+
+	@Autowired
+	JPAQueryFactory jpaQueryFactory;
+
+	@Autowired
+	EntityManager entityManager;
+
+	// 1,000,000 / 10,000,000 건으로 바꿔가며 측정
+	private static final long TOTAL = 1_000_000L;
+	private static final int BATCH = 10_000;
+	private static final int RUNS = 5;
+	private static final String[] WORDS = {"meeting", "report", "deploy", "review", "sprint", "release", "backup", "invoice"};
+	// 드문 검색어(특정 일정 하나)와 흔한 검색어(전체의 1/8)
+	private static final String[] TERMS = {"title777777", "deploy"};
+
+	@Test
+	@Disabled
+	void insertMassiveTitles() throws Exception {
+		LocalDateTime base = LocalDateTime.now().minusYears(1);
+
+		try (Connection connection = dataSource.getConnection()) {
+			long ownerId = insertOwner(connection);
+			boolean prevAutoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			String todoQuery = "INSERT INTO todos (title, contents, weather, weather_pending, user_id, created_at, modified_at) "
+				+ "VALUES (?, 'contents', 'Sunny', false, ?, ?, ?)";
+			String trigramQuery = "INSERT INTO todo_title_trigrams (todo_id, trigram) VALUES (?, ?)";
+			try (PreparedStatement todoPsmt = connection.prepareStatement(todoQuery, Statement.RETURN_GENERATED_KEYS);
+				 PreparedStatement trigramPsmt = connection.prepareStatement(trigramQuery)) {
+				String[] titles = new String[BATCH];
+				for (long i = 1; i <= TOTAL; i++) {
+					String title = WORDS[(int) (i % WORDS.length)] + " title" + i;
+					Timestamp timestamp = Timestamp.valueOf(base.plusSeconds(i * 3));
+					todoPsmt.setString(1, title);
+					todoPsmt.setLong(2, ownerId);
+					todoPsmt.setTimestamp(3, timestamp);
+					todoPsmt.setTimestamp(4, timestamp);
+					todoPsmt.addBatch();
+					titles[(int) ((i - 1) % BATCH)] = title;
+
+					if (i % BATCH == 0 || i == TOTAL) {
+						todoPsmt.executeBatch();
+						addTrigramBatch(todoPsmt, trigramPsmt, titles);
+						trigramPsmt.executeBatch();
+						connection.commit();
+					}
+				}
+			} catch (Exception e) {
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(prevAutoCommit);
+			}
+		}
+	}
+
+	private void addTrigramBatch(PreparedStatement todoPsmt, PreparedStatement trigramPsmt, String[] titles) throws Exception {
+		try (ResultSet keys = todoPsmt.getGeneratedKeys()) {
+			int index = 0;
+			while (keys.next()) {
+				long todoId = keys.getLong(1);
+				for (String trigram : TodoTitleTrigrams.extract(titles[index++])) {
+					trigramPsmt.setLong(1, todoId);
+					trigramPsmt.setString(2, trigram);
+					trigramPsmt.addBatch();
+				}
+			}
+		}
+	}
+
+	private long insertOwner(Connection connection) throws Exception {
+		String query = "INSERT INTO users (email, password, nickname, user_role) VALUES ('title-owner@test.com', 'pw', 'owner', 'USER')";
+		try (PreparedStatement psmt = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+			psmt.executeUpdate();
+			try (ResultSet keys = psmt.getGeneratedKeys()) {
+				keys.next();
+				return keys.getLong(1);
+			}
+		}
+	}
+
+	@Test
+	@Disabled
+	void compareLikeScanAndTrigramIndex() {
+		for (String term : TERMS) {
+			log.info("[{} titles] '{}' like scan     : {} ms", TOTAL, term, measure(() -> jpaQueryFactory.select(todo.id)
+				.from(todo)
+				.where(todo.title.containsIgnoreCase(term))
+				.orderBy(todo.createdAt.desc(), todo.id.desc())
+				.limit(10)
+				.fetch()));
+			log.info("[{} titles] '{}' trigram index : {} ms", TOTAL, term, measure(() -> todoRepository.searchTodosOrderByCreatedAtDesc(
+				term, null, null, null, PageRequest.of(0, 10))));
+		}
+	}
+
+	private double measure(Supplier<?> search) {
+		long total = 0;
+		for (int i = 0; i < RUNS; i++) {
+			entityManager.clear();
+			long start = System.nanoTime();
+			search.get();
+			total += System.nanoTime() - start;
+		}
+		return total / (RUNS * 1_000_000.0);
+	}
+}
@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.entity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class TodoTitleTrigramsTest {
+
+	@Test
+	public void 이모지는_코드_포인트_단위로_잘라서_깨지지_않음() {
+		// when & then
+		assertThat(TodoTitleTrigrams.extract("a😀b😃"))
+			.containsExactly("a😀b", "😀b😃")
+			.allSatisfy(trigram -> assertThat(trigram.codePointCount(0, trigram.length())).isEqualTo(3));
+	}
+
+	@Test
+	public void 대소문자와_악센트만_다른_trigram은_하나로_합침() {
+		// when & then (MySQL *_ai_ci collation에서 같은 값으로 비교되는 trigram)
+		assertThat(TodoTitleTrigrams.extract("ABÇ abc")).containsExactly("abc", "bc ", "c a", " ab");
+		assertThat(TodoTitleTrigrams.extract("Café")).containsExactly("caf", "afe");
+	}
+
+	@Test
+	public void 한글_음절과_전각_문자() {
+		// when & then
+		assertThat(TodoTitleTrigrams.extract("주간회의")).containsExactly("주간회", "간회의");
+		assertThat(TodoTitleTrigrams.extract("ＷＥＥＫ")).containsExactly("wee", "eek");
+	}
+
+	@Test
+	public void 세_글자_미만이면_빈_Set() {
+		// when & then
+		assertThat(TodoTitleTrigrams.extract("😀😀")).isEmpty();
+		assertThat(TodoTitleTrigrams.extract(null)).isEmpty();
+	}
+}
@@ -0,0 +1,73 @@
+package org.example.expert.domain.todo.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryPlanTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+// QueryDSL이 실제로 만든 목록 조회 SQL을 그대로 EXPLAIN해서 H2가 todos 인덱스를 사용하는지 확인
+// (조건이 있을 때만 where 절에 포함되는지, 정렬이 인덱스 순서와 맞는지가 바뀌면 실패함)
+public class TodoRepositoryQueryPlanTest extends QueryPlanTestSupport {
+
+	@BeforeEach
+	void setUp() {
+		User user = saveUser("user@test.com", "pw", "user", UserRole.USER);
+		for (int i = 0; i < 100; i++) {
+			todoRepository.save(new Todo("title" + i, "contents", i % 4 == 0 ? "Sunny" : "Cloudy", user));
+		}
+		flushAndClear();
+	}
+
+	@Test
+	void weather와_기간_조건이_있으면_weather_modified_at_인덱스를_사용한다() {
+		LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+		LocalDateTime end = LocalDateTime.of(2099, 1, 1, 0, 0);
+		String sql = captureListQuery("Sunny", start, end);
+
+		assertThat(sql).containsIgnoringCase("weather=?");
+		assertThat(explain(sql, "Sunny", start, end)).containsIgnoringCase("idx_todos_weather_modified_at");
+	}
+
+	@Test
+	void weather_조건만_있으면_weather_modified_at_인덱스를_사용한다() {
+		String sql = captureListQuery("Sunny", null, null);
+
+		assertThat(sql).doesNotContainIgnoringCase("modified_at>=?");
+		assertThat(explain(sql, "Sunny")).containsIgnoringCase("idx_todos_weather_modified_at");
+	}
+
+	@Test
+	void 기간_조건만_있으면_modified_at_인덱스를_사용한다() {
+		LocalDateTime start = LocalDateTime.of(2099, 1, 1, 0, 0);
+		String sql = captureListQuery(null, start, null);
+
+		assertThat(sql).doesNotContainIgnoringCase("weather=?");
+		assertThat(explain(sql, start)).containsIgnoringCase("idx_todos_modified_at");
+	}
+
+	@Test
+	void 조건에_맞는_일정만_수정일_역순으로_조회한다() {
+		Page<Todo> todos = todoRepository.findByConditionOrderByModifiedAtDesc(
+			"Sunny", LocalDateTime.now().minusDays(1), null, PageRequest.of(0, 10));
+
+		assertThat(todos.getTotalElements()).isEqualTo(25);
+		assertThat(todos.getContent()).hasSize(10)
+			.allMatch(todo -> "Sunny".equals(todo.getWeather()));
+		assertThat(todos.getContent())
+			.extracting(Todo::getModifiedAt)
+			.isSortedAccordingTo((a, b) -> b.compareTo(a));
+	}
+
+	private String captureListQuery(String weather, LocalDateTime start, LocalDateTime end) {
+		return captureOrderedQuery(() ->
+			todoRepository.findByConditionOrderByModifiedAtDesc(weather, start, end, PageRequest.of(0, 10)));
+	}
+}
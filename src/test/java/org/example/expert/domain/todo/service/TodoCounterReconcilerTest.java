@@ -0,0 +1,99 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+public class TodoCounterReconcilerTest extends IntegrationTestSupport {
+	@Autowired
+	TodoCounterReconciler todoCounterReconciler;
+
+	@Test
+	void 어긋난_담당자_댓글_수를_실제_행_수로_보정한다() {
+		// given
+		User owner = saveUser("owner@test.com", "pw", "owner", UserRole.USER);
+		User managerUser = saveUser("manager@test.com", "pw", "manager", UserRole.USER);
+		Todo skewed = saveTodo("skewed", "contents", "Sunny", owner);
+		Todo untouched = saveTodo("untouched", "contents", "Sunny", owner);
+		saveManager(managerUser, skewed);
+		saveComment("comment1", owner, skewed);
+		saveComment("comment2", managerUser, skewed);
+		flushAndClear();
+		entityManager.createNativeQuery("UPDATE todos SET manager_count = 7, comment_count = 0 WHERE id = :id")
+			.setParameter("id", skewed.getId())
+			.executeUpdate();
+
+		// when
+		todoCounterReconciler.reconcileCounts();
+		flushAndClear();
+
+		// then (작성자 + 추가 담당자 2명, 댓글 2개)
+		assertThat(counts(skewed)).containsExactly(2L, 2L);
+		assertThat(counts(untouched)).containsExactly(1L, 0L);
+	}
+
+	@Test
+	void 담당자와_댓글을_추가_삭제하면_카운터가_함께_바뀐다() throws Exception {
+		// given
+		User owner = saveUser("owner@test.com", "pw", "owner", UserRole.USER);
+		User managerUser = saveUser("manager@test.com", "pw", "manager", UserRole.USER);
+		Todo todo = saveTodo("title", "contents", "Sunny", owner);
+		flushAndClear();
+
+		// when & then : 담당자 추가
+		mockMvc.perform(post("/todos/{todoId}/managers", todo.getId())
+				.with(addHeatherBearerToken(owner))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new ManagerSaveRequest(managerUser.getId())))
+				.with(csrf()))
+			.andExpect(status().isOk());
+		flushAndClear();
+		assertThat(counts(todo)).containsExactly(2L, 0L);
+
+		// when & then : 댓글 추가
+		mockMvc.perform(post("/todos/{todoId}/comments", todo.getId())
+				.with(addHeatherBearerToken(managerUser))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new CommentSaveRequest("comment")))
+				.with(csrf()))
+			.andExpect(status().isOk());
+		flushAndClear();
+		assertThat(counts(todo)).containsExactly(2L, 1L);
+
+		// when & then : 담당자 삭제
+		Manager manager = managerRepository.findByTodoIdWithUser(todo.getId()).stream()
+			.filter(saved -> saved.getUser().getId().equals(managerUser.getId()))
+			.findFirst()
+			.orElseThrow();
+		mockMvc.perform(delete("/todos/{todoId}/managers/{managerId}", todo.getId(), manager.getId())
+				.with(addHeatherBearerToken(owner))
+				.with(csrf()))
+			.andExpect(status().isOk());
+		flushAndClear();
+		assertThat(counts(todo)).containsExactly(1L, 1L);
+
+		// 보정할 것이 없어야 함
+		todoCounterReconciler.reconcileCounts();
+		flushAndClear();
+		assertThat(counts(todo)).containsExactly(1L, 1L);
+	}
+
+	private Long[] counts(Todo todo) {
+		Object[] row = (Object[]) entityManager.createNativeQuery("SELECT manager_count, comment_count FROM todos WHERE id = :id")
+			.setParameter("id", todo.getId())
+			.getSingleResult();
+		return new Long[] {((Number) row[0]).longValue(), ((Number) row[1]).longValue()};
+	}
+}
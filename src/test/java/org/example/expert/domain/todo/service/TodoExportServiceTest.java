@@ -0,0 +1,95 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoExportServiceTest {
+	@Mock
+	private TodoRepository todoRepository;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@InjectMocks
+	private TodoExportService todoExportService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(todoExportService, "fetchSize", 100);
+		ReflectionTestUtils.setField(todoExportService, "clearInterval", 1);
+	}
+
+	@Test
+	public void exportTodos_CSV_형식으로_한_행씩_쓰고_영속성_컨텍스트를_비움() throws Exception {
+		//given
+		Todo first = createTodo(1L, "title", "contents, with comma");
+		Todo second = createTodo(2L, "say \"hi\"", "contents");
+		given(todoRepository.streamByConditionOrderByModifiedAtDesc(eq("Sunny"), any(LocalDateTime.class), any(LocalDateTime.class), eq(100)))
+			.willReturn(Stream.of(first, second));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		//when
+		todoExportService.exportTodos(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 30), "Sunny", TodoExportFormat.CSV, outputStream);
+
+		//then
+		String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize(3);
+		assertThat(lines[0]).isEqualTo("id,title,contents,weather,userId,userEmail,createdAt,modifiedAt");
+		assertThat(lines[1]).startsWith("1,title,\"contents, with comma\",Sunny,1,user@test.com,");
+		assertThat(lines[2]).startsWith("2,\"say \"\"hi\"\"\",contents,Sunny,1,user@test.com,");
+		then(entityManager).should(times(2)).clear();
+	}
+
+	@Test
+	public void exportTodos_NDJSON_형식으로_한_줄에_하나씩_씀() throws Exception {
+		//given
+		given(todoRepository.streamByConditionOrderByModifiedAtDesc(isNull(), isNull(), isNull(), eq(100)))
+			.willReturn(Stream.of(createTodo(1L, "title", "contents")));
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		//when
+		todoExportService.exportTodos(null, null, null, TodoExportFormat.NDJSON, outputStream);
+
+		//then
+		String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize(1);
+		assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("title");
+		assertThat(objectMapper.readTree(lines[0]).get("user").get("email").asText()).isEqualTo("user@test.com");
+	}
+
+	private Todo createTodo(Long id, String title, String contents) {
+		User user = new User("user@test.com", "pw", "user", UserRole.USER);
+		ReflectionTestUtils.setField(user, "id", 1L);
+		Todo todo = new Todo(title, contents, "Sunny", user);
+		ReflectionTestUtils.setField(todo, "id", id);
+		return todo;
+	}
+}
@@ -8,20 +8,26 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherEnrichmentMode;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,6 +36,8 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -39,6 +47,9 @@ public class TodoServiceTest {
 	@Mock
 	private WeatherClient weatherClient;
 
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
 	@InjectMocks
 	private TodoService todoService;
 
@@ -69,6 +80,105 @@ public class TodoServiceTest {
 		verify(todoRepository).save(any(Todo.class));
 	}
 
+	@Test
+	public void saveTodo_ASYNC_모드면_날씨_조회_없이_저장() {
+		//given
+		ReflectionTestUtils.setField(todoService, "weatherEnrichmentMode", WeatherEnrichmentMode.ASYNC);
+		AuthUser authUser = new AuthUser(1L, "user@test.com","user",UserRole.USER);
+		TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents");
+
+		User userEntity = User.fromAuthUser(authUser);
+		Todo saved = Todo.withPendingWeather("title", "contents", userEntity);
+		ReflectionTestUtils.setField(saved, "id", 1L);
+		given(todoRepository.save(any(Todo.class))).willReturn(saved);
+
+		//when
+		TodoSaveResponse todoSaveResponse = todoService.saveTodo(authUser, todoSaveRequest);
+
+		//then
+		assertThat(todoSaveResponse.getId()).isEqualTo(1L);
+		assertThat(todoSaveResponse.getWeather()).isNull();
+		assertThat(saved.isWeatherPending()).isTrue();
+		verify(weatherClient, never()).getTodayWeather();
+	}
+
+	@Test
+	public void fillPendingWeather_작성일별로_날씨를_채운다() {
+		//given
+		User user = new User("user@test.com", "pw", "user", UserRole.USER);
+		Todo todo1 = Todo.withPendingWeather("title", "contents", user);
+		Todo todo2 = Todo.withPendingWeather("title2", "contents2", user);
+		LocalDateTime createdAt = LocalDateTime.of(2025, 9, 1, 10, 0);
+		ReflectionTestUtils.setField(todo1, "id", 1L);
+		ReflectionTestUtils.setField(todo1, "createdAt", createdAt);
+		ReflectionTestUtils.setField(todo2, "id", 2L);
+		ReflectionTestUtils.setField(todo2, "createdAt", createdAt.plusHours(1));
+
+		given(todoRepository.findByWeatherPendingTrueAndIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).willReturn(List.of(todo1, todo2));
+		given(weatherClient.getWeather(LocalDate.of(2025, 9, 1))).willReturn("Sunny");
+		willExecuteInTransaction();
+
+		//when
+		TodoService.PendingWeatherBatch batch = todoService.fillPendingWeather(0L, 100);
+
+		//then
+		assertThat(batch.size()).isEqualTo(2);
+		assertThat(batch.skipped()).isZero();
+		assertThat(batch.lastTodoId()).isEqualTo(2L);
+		InOrder inOrder = inOrder(weatherClient, transactionTemplate, todoRepository);
+		inOrder.verify(weatherClient, times(1)).getWeather(LocalDate.of(2025, 9, 1));
+		inOrder.verify(transactionTemplate).executeWithoutResult(any());
+		inOrder.verify(todoRepository).fillPendingWeather("Sunny", List.of(1L, 2L));
+	}
+
+	@Test
+	public void fillPendingWeather_날씨를_찾지_못한_날짜만_건너뛴다() {
+		//given
+		User user = new User("user@test.com", "pw", "user", UserRole.USER);
+		Todo leapDayTodo = Todo.withPendingWeather("title", "contents", user);
+		Todo todo = Todo.withPendingWeather("title2", "contents2", user);
+		ReflectionTestUtils.setField(leapDayTodo, "id", 1L);
+		ReflectionTestUtils.setField(leapDayTodo, "createdAt", LocalDateTime.of(2024, 2, 29, 10, 0));
+		ReflectionTestUtils.setField(todo, "id", 2L);
+		ReflectionTestUtils.setField(todo, "createdAt", LocalDateTime.of(2025, 9, 1, 10, 0));
+
+		given(todoRepository.findByWeatherPendingTrueAndIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).willReturn(List.of(leapDayTodo, todo));
+		given(weatherClient.getWeather(LocalDate.of(2024, 2, 29))).willThrow(new ServerException("날씨 데이터를 찾을 수 없습니다."));
+		given(weatherClient.getWeather(LocalDate.of(2025, 9, 1))).willReturn("Sunny");
+		willExecuteInTransaction();
+
+		//when
+		TodoService.PendingWeatherBatch batch = todoService.fillPendingWeather(0L, 100);
+
+		//then
+		assertThat(batch.size()).isEqualTo(2);
+		assertThat(batch.skipped()).isEqualTo(1);
+		assertThat(batch.lastTodoId()).isEqualTo(2L);
+		verify(todoRepository).fillPendingWeather("Sunny", List.of(2L));
+		verify(todoRepository, never()).fillPendingWeather(anyString(), eq(List.of(1L)));
+	}
+
+	@Test
+	public void fillPendingWeather_모든_날짜의_날씨_조회가_실패하면_트랜잭션을_열지_않는다() {
+		//given
+		User user = new User("user@test.com", "pw", "user", UserRole.USER);
+		Todo todo = Todo.withPendingWeather("title", "contents", user);
+		ReflectionTestUtils.setField(todo, "id", 1L);
+		ReflectionTestUtils.setField(todo, "createdAt", LocalDateTime.of(2025, 9, 1, 10, 0));
+
+		given(todoRepository.findByWeatherPendingTrueAndIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).willReturn(List.of(todo));
+		given(weatherClient.getWeather(LocalDate.of(2025, 9, 1))).willThrow(new ServerException("날씨 API에 연결하지 못했거나 응답 시간이 초과되었습니다."));
+
+		//when
+		TodoService.PendingWeatherBatch batch = todoService.fillPendingWeather(0L, 100);
+
+		//then
+		assertThat(batch.size()).isEqualTo(1);
+		assertThat(batch.skipped()).isEqualTo(1);
+		verify(transactionTemplate, never()).executeWithoutResult(any());
+		verify(todoRepository, never()).fillPendingWeather(anyString(), anyList());
+	}
+
 	@Test
 	public void getTodos_성공_시_Page_Dto_반환() {
 		//given
@@ -102,6 +212,43 @@ public class TodoServiceTest {
 		assertThat(result.getContent().get(1).getUser().getEmail()).isEqualTo(user.getEmail());
 	}
 
+	@Test
+	public void getTodosByCursor_다음_페이지가_있으면_nextCursor_반환() {
+		//given
+		User user = new User("user@test.com", "pw", "user", UserRole.USER);
+		LocalDateTime modifiedAt = LocalDateTime.of(2025, 9, 20, 10, 0);
+		Todo todo1 = new Todo("title", "contents", "Sunny", user);
+		Todo todo2 = new Todo("title2", "contents2", "Sunny", user);
+		Todo todo3 = new Todo("title3", "contents3", "Sunny", user);
+		ReflectionTestUtils.setField(todo1, "id", 3L);
+		ReflectionTestUtils.setField(todo1, "modifiedAt", modifiedAt);
+		ReflectionTestUtils.setField(todo2, "id", 2L);
+		ReflectionTestUtils.setField(todo2, "modifiedAt", modifiedAt);
+		ReflectionTestUtils.setField(todo3, "id", 1L);
+		ReflectionTestUtils.setField(todo3, "modifiedAt", modifiedAt.minusHours(1));
+
+		given(todoRepository.findByConditionAfterCursor(isNull(), isNull(), isNull(), isNull(), isNull(), eq(3)))
+			.willReturn(List.of(todo1, todo2, todo3));
+
+		//when
+		CursorPageResponse<TodoResponse> result = todoService.getTodosByCursor("", 2, null, null, null);
+
+		//then
+		assertThat(result.getContent()).hasSize(2);
+		assertThat(result.isHasNext()).isTrue();
+		TodoCursor nextCursor = TodoCursor.decode(result.getNextCursor());
+		assertThat(nextCursor.getModifiedAt()).isEqualTo(modifiedAt);
+		assertThat(nextCursor.getId()).isEqualTo(2L);
+	}
+
+	@Test
+	public void getTodosByCursor_cursor가_유효하지_않으면_400_반환() {
+		// when & then
+		assertThatThrownBy(() -> todoService.getTodosByCursor("not-a-cursor", 10, null, null, null))
+			.isInstanceOf(InvalidRequestException.class)
+			.hasMessage("유효하지 않은 cursor입니다.");
+	}
+
 	@Test
 	public void getTodo_성공_시_DTO_반환() {
 		//given
@@ -161,4 +308,12 @@ public class TodoServiceTest {
 		assertThat(result.getTotalElements()).isZero();
 		assertThat(result.getTotalPages()).isEqualTo(1);
 	}
+
+	// 날씨 조회가 끝난 뒤 갱신만 트랜잭션 안에서 실행됨
+	private void willExecuteInTransaction() {
+		willAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).given(transactionTemplate).executeWithoutResult(any());
+	}
 }
@@ -0,0 +1,49 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class TodoTitleIndexBackfillerTest extends IntegrationTestSupport {
+	private static final int BATCH_SIZE = 2;
+
+	@Autowired
+	TodoService todoService;
+
+	@Test
+	void 색인해도_trigram이_없는_제목이_배치_크기보다_많아도_건너뛰고_뒤의_일정을_색인한다() {
+		// given : LENGTH는 3 이상이지만 정규화 후 3글자가 안 되는 제목 (보조 문자 2개, 결합 문자만 붙은 2글자)
+		User owner = saveUser("owner@test.com", "pw", "owner", UserRole.USER);
+		saveTodo("\uD83D\uDE00\uD83D\uDE00", "contents", "Sunny", owner);
+		saveTodo("\uD83D\uDE00\uD83D\uDE00", "contents", "Sunny", owner);
+		saveTodo("a\u0301b\u0301", "contents", "Sunny", owner);
+		Todo legacy = saveTodo("legacy title", "contents", "Sunny", owner);
+		flushAndClear();
+		entityManager.createNativeQuery("DELETE FROM todo_title_trigrams WHERE todo_id = :id")
+			.setParameter("id", legacy.getId())
+			.executeUpdate();
+
+		TodoTitleIndexBackfiller backfiller = new TodoTitleIndexBackfiller(todoService);
+		ReflectionTestUtils.setField(backfiller, "enabled", true);
+		ReflectionTestUtils.setField(backfiller, "batchSize", BATCH_SIZE);
+
+		// when
+		backfiller.backfillTitleIndex();
+		flushAndClear();
+
+		// then
+		assertThat(trigramCount(legacy)).isEqualTo(10L);
+	}
+
+	private long trigramCount(Todo todo) {
+		return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM todo_title_trigrams WHERE todo_id = :id")
+			.setParameter("id", todo.getId())
+			.getSingleResult()).longValue();
+	}
+}
@@ -0,0 +1,69 @@
+package org.example.expert.domain.todo.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoWeatherEnricherTest {
+	@Mock
+	private TodoService todoService;
+
+	@InjectMocks
+	private TodoWeatherEnricher todoWeatherEnricher;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(todoWeatherEnricher, "batchSize", 100);
+		ReflectionTestUtils.setField(todoWeatherEnricher, "maxBatchesPerRun", 10);
+		ReflectionTestUtils.setField(todoWeatherEnricher, "initialBackoff", Duration.ofMinutes(1));
+		ReflectionTestUtils.setField(todoWeatherEnricher, "maxBackoff", Duration.ofMinutes(5));
+	}
+
+	@Test
+	public void 하나도_채우지_못하고_건너뛰기만_하면_backoff_동안_다음_실행을_건너뛴다() {
+		//given
+		given(todoService.fillPendingWeather(0L, 100)).willReturn(new TodoService.PendingWeatherBatch(3, 3, 3L));
+
+		//when
+		todoWeatherEnricher.enrichPendingTodos();
+		todoWeatherEnricher.enrichPendingTodos();
+
+		//then
+		verify(todoService, times(1)).fillPendingWeather(0L, 100);
+	}
+
+	@Test
+	public void 일부라도_채웠으면_다음_실행을_미루지_않는다() {
+		//given
+		given(todoService.fillPendingWeather(0L, 100)).willReturn(new TodoService.PendingWeatherBatch(3, 1, 3L));
+
+		//when
+		todoWeatherEnricher.enrichPendingTodos();
+		todoWeatherEnricher.enrichPendingTodos();
+
+		//then
+		verify(todoService, times(2)).fillPendingWeather(0L, 100);
+	}
+
+	@Test
+	public void 배치_조회가_예외로_끝나도_backoff_동안_다음_실행을_건너뛴다() {
+		//given
+		given(todoService.fillPendingWeather(0L, 100)).willThrow(new IllegalStateException("DB 연결 실패"));
+
+		//when
+		todoWeatherEnricher.enrichPendingTodos();
+		todoWeatherEnricher.enrichPendingTodos();
+
+		//then
+		verify(todoService, times(1)).fillPendingWeather(0L, 100);
+	}
+}
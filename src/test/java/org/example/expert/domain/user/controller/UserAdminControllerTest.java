@@ -10,8 +10,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserImportResponse;
+import org.example.expert.domain.user.entity.UserImportCheckpoint;
+import org.example.expert.domain.user.enums.UserImportFormat;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserImportService;
 import org.example.expert.support.ControllerTestSupport;
 import org.example.expert.support.WithMockAuthUser;
 import org.junit.jupiter.api.Test;
@@ -25,6 +29,9 @@ public class UserAdminControllerTest extends ControllerTestSupport {
 	@MockBean
 	private UserAdminService userAdminService;
 
+	@MockBean
+	private UserImportService userImportService;
+
 	@Test
 	@WithMockAuthUser(userId = 1L, email = "admin@example.com", nickname = "admin", userRole = UserRole.ADMIN)
 	void ChangeUserRole에_성공한다() throws Exception {
@@ -62,4 +69,41 @@ public class UserAdminControllerTest extends ControllerTestSupport {
 				.with(csrf()))
 			.andExpect(status().isBadRequest());
 	}
+
+	@Test
+	@WithMockAuthUser(userId = 1L, email = "admin@example.com", nickname = "admin", userRole = UserRole.ADMIN)
+	void importUsers에_성공한다() throws Exception {
+		// given
+		UserImportCheckpoint checkpoint = new UserImportCheckpoint("import-1");
+		checkpoint.advance(2, 2, 0, 0);
+		checkpoint.complete();
+
+		given(userImportService.importUsers(eq("import-1"), eq(UserImportFormat.CSV), any()))
+			.willReturn(new UserImportResponse(checkpoint, 1000, 2));
+
+		// when & then
+		mockMvc.perform(post("/admin/users/import")
+				.param("importId", "import-1")
+				.param("format", "csv")
+				.contentType("text/csv")
+				.content("email,password,nickname,userRole\nuser1@test.com,pw,user1,USER\nuser2@test.com,pw,user2,USER\n")
+				.with(csrf()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value("COMPLETED"))
+			.andExpect(jsonPath("$.importedCount").value(2))
+			.andExpect(jsonPath("$.linesPerSecond").value(2.0));
+	}
+
+	@Test
+	@WithMockAuthUser(userId = 1L, email = "admin@example.com", nickname = "admin", userRole = UserRole.ADMIN)
+	void importUsers_지원하지_않는_형식이면_400_반환() throws Exception {
+		// when & then
+		mockMvc.perform(post("/admin/users/import")
+				.param("importId", "import-1")
+				.param("format", "xml")
+				.content("<users/>")
+				.with(csrf()))
+			.andExpect(status().isBadRequest());
+		then(userImportService).shouldHaveNoInteractions();
+	}
 }
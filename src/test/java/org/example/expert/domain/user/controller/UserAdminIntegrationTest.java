@@ -4,6 +4,8 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.List;
+
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
@@ -13,6 +15,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 public class UserAdminIntegrationTest extends IntegrationTestSupport {
 	@Test
@@ -33,6 +38,37 @@ public class UserAdminIntegrationTest extends IntegrationTestSupport {
 			.andExpect(status().isOk());
 	}
 
+	// 폐기는 역할 변경이 커밋된 뒤에 반영되므로 테스트 트랜잭션 없이 실제로 커밋시키고 직접 정리함
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void changeUserRole_이후_변경_전에_발급된_토큰은_401_반환() throws Exception {
+		// given
+		User authUser = saveUser("authUser@test.com", "pw", "authUser", UserRole.ADMIN);
+		User user = saveUser("user@test.com", "pw", "user", UserRole.USER);
+		RequestPostProcessor issuedBeforeChange = addHeatherBearerToken(user);
+
+		try {
+			mockMvc.perform(get("/users/{userId}", user.getId())
+					.with(issuedBeforeChange))
+				.andExpect(status().isOk());
+
+			// when
+			mockMvc.perform(patch("/admin/users/{users}", user.getId())
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(new UserRoleChangeRequest("ADMIN")))
+					.with(addHeatherBearerToken(authUser))
+					.with(csrf()))
+				.andExpect(status().isOk());
+
+			// then
+			mockMvc.perform(get("/users/{userId}", user.getId())
+					.with(issuedBeforeChange))
+				.andExpect(status().isUnauthorized());
+		} finally {
+			userRepository.deleteAllById(List.of(authUser.getId(), user.getId()));
+		}
+	}
+
 	@Test
 	void changeUserRole_유저_접근권한_검증실패_시_400_반환 () throws Exception {
 		// given
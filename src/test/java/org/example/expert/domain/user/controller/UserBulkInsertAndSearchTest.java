@@ -43,14 +43,15 @@ public class UserBulkInsertAndSearchTest extends IntegrationTestSupport {
 		try(Connection connection = dataSource.getConnection()){
 			boolean prevAutoCommit = connection.getAutoCommit();
 			connection.setAutoCommit(false);
-			String query = "INSERT INTO users (email, password, nickname, user_role) VALUES (?, ?, ?, ?)";
+			String query = "INSERT INTO users (email, password, nickname, nickname_normalized, user_role) VALUES (?, ?, ?, ?, ?)";
 			try(PreparedStatement psmt = connection.prepareStatement(query)){
 				for(long i = 1; i <= TOTAL; i++){
 					String nickname = generateNicknameWithTimeSeed(i);
 					psmt.setString(1, nickname+"@test.com");
 					psmt.setString(2, password);
 					psmt.setString(3, nickname);
-					psmt.setString(4, "USER");
+					psmt.setString(4, User.normalizeNickname(nickname));
+					psmt.setString(5, "USER");
 					psmt.addBatch();
 
 					if(i % BATCH==0){
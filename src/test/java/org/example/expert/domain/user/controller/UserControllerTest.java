@@ -6,8 +6,11 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.List;
+
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -96,4 +99,19 @@ public class UserControllerTest extends ControllerTestSupport {
 				.with(csrf()))
 			.andExpect(status().isBadRequest());
 	}
+
+	@Test
+	@WithMockAuthUser(userId = 1L, email = "user@example.com", nickname = "user", userRole = UserRole.USER)
+	void 닉네임_접두어_검색에_성공한다() throws Exception {
+		// given
+		given(userService.searchUsersByNicknamePrefix("us", 10))
+			.willReturn(List.of(new UserNicknameResponse(1L, "user1"), new UserNicknameResponse(2L, "User2")));
+
+		// when & then
+		mockMvc.perform(get("/users/search/prefix").param("prefix", "us"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(2))
+			.andExpect(jsonPath("$[0].id").value(1L))
+			.andExpect(jsonPath("$[1].nickname").value("User2"));
+	}
 }
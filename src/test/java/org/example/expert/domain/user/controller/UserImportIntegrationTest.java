@@ -0,0 +1,92 @@
+package org.example.expert.domain.user.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.entity.UserImportCheckpoint;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserImportCheckpointRepository;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class UserImportIntegrationTest extends IntegrationTestSupport {
+	@Autowired
+	UserImportCheckpointRepository userImportCheckpointRepository;
+
+	@Autowired
+	PasswordEncoder passwordEncoder;
+
+	@Test
+	void CSV_import_시_중복과_잘못된_행은_건너뛰고_나머지를_저장() throws Exception {
+		// given
+		User admin = saveUser("admin@test.com", "pw", "admin", UserRole.ADMIN);
+		saveUser("exists@test.com", "pw", "exists", UserRole.USER);
+		String csv = """
+			email,password,nickname,userRole
+			new1@test.com,pw1,new1,USER
+			exists@test.com,pw,exists,USER
+			not-an-email,pw,broken,USER
+			"new2@test.com","p,w""2",new2,admin
+			new1@test.com,pw1,new1,USER
+			""";
+
+		// when & then
+		mockMvc.perform(post("/admin/users/import")
+				.param("importId", "csv-import")
+				.param("format", "csv")
+				.contentType("text/csv")
+				.content(csv)
+				.with(addHeatherBearerToken(admin))
+				.with(csrf()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value("COMPLETED"))
+			.andExpect(jsonPath("$.processedLines").value(5))
+			.andExpect(jsonPath("$.importedCount").value(2))
+			.andExpect(jsonPath("$.duplicateCount").value(2))
+			.andExpect(jsonPath("$.invalidCount").value(1));
+
+		User imported = userRepository.findByEmail("new2@test.com").orElseThrow();
+		assertThat(imported.getUserRole()).isEqualTo(UserRole.ADMIN);
+		assertThat(passwordEncoder.matches("p,w\"2", imported.getPassword())).isTrue();
+	}
+
+	@Test
+	void 같은_importId로_다시_요청하면_커밋된_줄_다음부터_이어서_진행() throws Exception {
+		// given
+		User admin = saveUser("admin@test.com", "pw", "admin", UserRole.ADMIN);
+		UserImportCheckpoint checkpoint = new UserImportCheckpoint("ndjson-import");
+		checkpoint.advance(2, 2, 0, 0);
+		userImportCheckpointRepository.save(checkpoint);
+		String ndjson = """
+			{"email":"skipped1@test.com","password":"pw","nickname":"skipped1","userRole":"USER"}
+			{"email":"skipped2@test.com","password":"pw","nickname":"skipped2","userRole":"USER"}
+			{"email":"resumed@test.com","password":"pw","nickname":"resumed","userRole":"USER"}
+			""";
+
+		// when & then
+		mockMvc.perform(post("/admin/users/import")
+				.param("importId", "ndjson-import")
+				.param("format", "ndjson")
+				.contentType("application/x-ndjson")
+				.content(ndjson)
+				.with(addHeatherBearerToken(admin))
+				.with(csrf()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.processedLines").value(3))
+			.andExpect(jsonPath("$.importedCount").value(3));
+
+		assertThat(userRepository.findByEmail("skipped1@test.com")).isEmpty();
+		assertThat(userRepository.findByEmail("resumed@test.com")).isPresent();
+
+		mockMvc.perform(get("/admin/users/import/{importId}", "ndjson-import")
+				.with(addHeatherBearerToken(admin)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.status").value("COMPLETED"))
+			.andExpect(jsonPath("$.processedLines").value(3));
+	}
+}
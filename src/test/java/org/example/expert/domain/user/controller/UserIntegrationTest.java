@@ -1,5 +1,6 @@
 package org.example.expert.domain.user.controller;
 
+import static org.hamcrest.Matchers.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 public class UserIntegrationTest extends IntegrationTestSupport {
 	@Autowired
@@ -103,4 +105,71 @@ public class UserIntegrationTest extends IntegrationTestSupport {
 				.with(csrf()))
 			.andExpect(status().isBadRequest());
 	}
+
+	@Test
+	void searchUsersByNickname_대소문자와_관계없이_정규화_전_유저까지_조회() throws Exception {
+		// given
+		User authUser = saveUser("authUser@test.com", "pw", "authUser", UserRole.USER);
+		User user = saveUser("hello1@test.com", "pw", "Hello", UserRole.USER);
+		User legacyUser = new User("hello2@test.com", "pw", "HELLO", UserRole.USER);
+		ReflectionTestUtils.setField(legacyUser, "nicknameNormalized", null);
+		userRepository.save(legacyUser);
+		saveUser("other@test.com", "pw", "hello-world", UserRole.USER);
+
+		// when & then
+		mockMvc.perform(get("/users/search")
+				.param("nickname", "hELLo")
+				.with(addHeatherBearerToken(authUser)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content.length()").value(2))
+			.andExpect(jsonPath("$.content[*].id", containsInAnyOrder(user.getId().intValue(), legacyUser.getId().intValue())))
+			.andExpect(jsonPath("$.hasNext").value(false));
+	}
+
+	@Test
+	void searchUsersByNickname_cursor로_이어서_조회하면_중복_없이_모두_조회() throws Exception {
+		// given
+		User authUser = saveUser("authUser@test.com", "pw", "authUser", UserRole.USER);
+		User first = saveUser("same1@test.com", "pw", "same", UserRole.USER);
+		User second = saveUser("same2@test.com", "pw", "same", UserRole.USER);
+		User third = saveUser("same3@test.com", "pw", "same", UserRole.USER);
+
+		// when
+		String firstPage = mockMvc.perform(get("/users/search")
+				.param("nickname", "same")
+				.param("size", "2")
+				.with(addHeatherBearerToken(authUser)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[*].id", contains(first.getId().intValue(), second.getId().intValue())))
+			.andExpect(jsonPath("$.hasNext").value(true))
+			.andReturn().getResponse().getContentAsString();
+		String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+		// then
+		mockMvc.perform(get("/users/search")
+				.param("nickname", "same")
+				.param("size", "2")
+				.param("cursor", nextCursor)
+				.with(addHeatherBearerToken(authUser)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[*].id", contains(third.getId().intValue())))
+			.andExpect(jsonPath("$.hasNext").value(false));
+	}
+
+	@Test
+	void searchUsersByNickname_대소문자가_다른_닉네임은_id_순으로_반환() throws Exception {
+		// given
+		User authUser = saveUser("authUser@test.com", "pw", "authUser", UserRole.USER);
+		User lower = saveUser("mixed1@test.com", "pw", "mixed", UserRole.USER);
+		User upper = saveUser("mixed2@test.com", "pw", "MIXED", UserRole.USER);
+		User capital = saveUser("mixed3@test.com", "pw", "Mixed", UserRole.USER);
+
+		// when & then
+		mockMvc.perform(get("/users/search")
+				.param("nickname", "mixed")
+				.with(addHeatherBearerToken(authUser)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[*].id",
+				contains(lower.getId().intValue(), upper.getId().intValue(), capital.getId().intValue())));
+	}
 }
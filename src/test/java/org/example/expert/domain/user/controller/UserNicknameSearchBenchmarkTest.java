@@ -0,0 +1,129 @@
+package org.example.expert.domain.user.controller;
+
+import static org.example.expert.domain.user.entity.QUser.user;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
+import org.example.expert.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+// UserBulkInsertAndSearchTest.insertMassiveUsers로 500만 건을 넣은 뒤 실행
+// README Level 13의 세 가지 경우(lower(nickname) 조회)와 정규화 컬럼 조회를 같은 데이터로 비교
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("bulk")
+public class UserNicknameSearchBenchmarkTest extends IntegrationTestSupport {
+	@Autowired
+	DataSource dataSource;
+
+	@Autowired
+	JPAQueryFactory jpaQueryFactory;
+
+	private static final int RUNS = 5;
+	// /users/search 기본 페이지 크기 + 다음 페이지 확인용 1건
+	private static final int PAGE_SIZE = 11;
+	private static final String NORMALIZED_INDEX = "idx_users_nickname_normalized";
+
+	// 테스트 트랜잭션이 users 테이블의 metadata lock을 잡고 있으면 인덱스 DDL이 대기하므로 트랜잭션 없이 실행
+	@Test
+	@Disabled
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void compareNicknameSearchScenarios() throws Exception {
+		String nickname = findMiddleNickname().toUpperCase();
+		StringBuilder table = new StringBuilder("\n| Scenario | Runs | Mean (ms) | Median (ms) | SD (ms) | Min | Max |\n|---|---:|---:|---:|---:|---:|---:|\n");
+
+		// 정규화 컬럼 인덱스도 (nickname, id)를 포함하므로 기존 경우를 잴 때는 잠시 제거
+		execute("DROP INDEX " + NORMALIZED_INDEX + " ON users");
+		try {
+			table.append(row("No Index", measure(() -> legacySearch(nickname))));
+
+			execute("CREATE INDEX idx_bench_nickname ON users (nickname)");
+			table.append(row("Nickname Index", measure(() -> legacySearch(nickname))));
+			execute("DROP INDEX idx_bench_nickname ON users");
+
+			execute("CREATE INDEX idx_bench_nickname_id ON users (nickname, id)");
+			table.append(row("(Nickname, Id) Index", measure(() -> legacySearch(nickname))));
+			execute("DROP INDEX idx_bench_nickname_id ON users");
+		} finally {
+			execute("CREATE INDEX " + NORMALIZED_INDEX + " ON users (nickname_normalized, id, nickname)");
+		}
+
+		table.append(row("Normalized Nickname Index", measure(() -> userRepository.searchByNicknameAfterCursor(nickname, null, PAGE_SIZE, false))));
+		log.info(table.toString());
+	}
+
+	// 변경 전 조회 (컬럼을 lower()로 감싸서 인덱스 탐색 불가)
+	private List<UserNicknameResponse> legacySearch(String nickname) {
+		return jpaQueryFactory.select(Projections.constructor(
+				UserNicknameResponse.class,
+				user.id,
+				user.nickname
+			))
+			.from(user)
+			.where(user.nickname.lower().eq(nickname.toLowerCase()))
+			.fetch();
+	}
+
+	private long[] measure(Supplier<List<UserNicknameResponse>> search) {
+		long[] elapsed = new long[RUNS];
+		for (int i = 0; i < RUNS; i++) {
+			long start = System.nanoTime();
+			search.get();
+			elapsed[i] = (System.nanoTime() - start) / 1_000_000;
+		}
+		return elapsed;
+	}
+
+	private String row(String scenario, long[] elapsed) {
+		long[] sorted = elapsed.clone();
+		Arrays.sort(sorted);
+		double mean = Arrays.stream(sorted).average().orElse(0);
+		double median = sorted.length % 2 == 1
+			? sorted[sorted.length / 2]
+			: (sorted[sorted.length / 2 - 1] + sorted[sorted.length / 2]) / 2.0;
+		double sd = Math.sqrt(Arrays.stream(sorted).mapToDouble(v -> (v - mean) * (v - mean)).sum() / (sorted.length - 1));
+		return String.format("| %s | %d | %.1f | %.1f | %.1f | %d | %d |%n",
+			scenario, sorted.length, mean, median, sd, sorted[0], sorted[sorted.length - 1]);
+	}
+
+	private String findMiddleNickname() throws Exception {
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement()) {
+			long total;
+			try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+				rs.next();
+				total = rs.getLong(1);
+			}
+			try (ResultSet rs = statement.executeQuery("SELECT nickname FROM users ORDER BY id LIMIT 1 OFFSET " + total / 2)) {
+				rs.next();
+				return rs.getString(1);
+			}
+		}
+	}
+
+	private void execute(String ddl) throws Exception {
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement()) {
+			statement.execute(ddl);
+		}
+	}
+}
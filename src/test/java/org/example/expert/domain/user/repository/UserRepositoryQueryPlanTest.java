@@ -0,0 +1,37 @@
+package org.example.expert.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.support.QueryPlanTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// 닉네임 검색 SQL을 그대로 EXPLAIN해서 정규화 채우기가 끝난 뒤에는 (nickname_normalized, id, nickname) 인덱스 한 구간만 읽는지 확인
+public class UserRepositoryQueryPlanTest extends QueryPlanTestSupport {
+
+	@BeforeEach
+	void setUp() {
+		for (int i = 0; i < 100; i++) {
+			saveUser("user" + i + "@test.com", "pw", i % 10 == 0 ? "Hello" : "user" + i, UserRole.USER);
+		}
+		flushAndClear();
+	}
+
+	@Test
+	void 정규화_채우기가_끝나면_IS_NULL_구간_없이_정규화_닉네임_인덱스를_사용한다() {
+		String sql = captureOrderedQuery(() -> userRepository.searchByNicknameAfterCursor("HELLO", 5L, 11, false));
+
+		assertThat(sql).containsIgnoringCase("nickname_normalized=?")
+			.doesNotContainIgnoringCase("is null");
+		assertThat(explain(sql, "hello", 5L)).containsIgnoringCase("idx_users_nickname_normalized");
+	}
+
+	@Test
+	void 정규화_채우기가_끝나기_전에는_정규화_전_유저도_함께_찾는다() {
+		String sql = captureOrderedQuery(() -> userRepository.searchByNicknameAfterCursor("HELLO", null, 11, true));
+
+		assertThat(sql).containsIgnoringCase("is null");
+		assertThat(userRepository.searchByNicknameAfterCursor("HELLO", null, 11, true)).hasSize(10);
+	}
+}
@@ -0,0 +1,75 @@
+package org.example.expert.domain.user.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class EmailBloomFilterTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+
+	@Test
+	public void 적재_전에는_모든_이메일을_있을_수_있음으로_반환() {
+		// given
+		EmailBloomFilter emailBloomFilter = new EmailBloomFilter(userRepository, new SimpleMeterRegistry(), 1000, 0.01);
+
+		// when & then
+		assertThat(emailBloomFilter.isLoaded()).isFalse();
+		assertThat(emailBloomFilter.mightContain("new@test.com")).isTrue();
+	}
+
+	@Test
+	public void 적재된_이메일과_이후_추가된_이메일은_대소문자_무관하게_포함() {
+		// given
+		given(userRepository.streamAllEmails()).willReturn(Stream.of("user1@test.com", "User2@Test.com"));
+		EmailBloomFilter emailBloomFilter = new EmailBloomFilter(userRepository, new SimpleMeterRegistry(), 1000, 0.01);
+
+		// when
+		emailBloomFilter.load();
+		emailBloomFilter.put("user3@test.com");
+
+		// then
+		assertThat(emailBloomFilter.isLoaded()).isTrue();
+		assertThat(emailBloomFilter.mightContain("USER1@test.com")).isTrue();
+		assertThat(emailBloomFilter.mightContain("user2@test.com")).isTrue();
+		assertThat(emailBloomFilter.mightContain("user3@test.com")).isTrue();
+	}
+
+	@Test
+	public void 예상_건수만큼_적재해도_오탐률이_설정값_근처로_유지() {
+		// given
+		int inserted = 10_000;
+		given(userRepository.streamAllEmails()).willReturn(IntStream.range(0, inserted).mapToObj(i -> "user" + i + "@test.com"));
+		EmailBloomFilter emailBloomFilter = new EmailBloomFilter(userRepository, new SimpleMeterRegistry(), inserted, 0.01);
+		emailBloomFilter.load();
+
+		// when
+		long falsePositives = IntStream.range(0, inserted)
+			.filter(i -> emailBloomFilter.mightContain("other" + i + "@test.com"))
+			.count();
+
+		// then
+		assertThat((double) falsePositives / inserted).isLessThan(0.02);
+	}
+
+	@Test
+	public void 적재_실패_시_DB_조회로_넘김() {
+		// given
+		given(userRepository.streamAllEmails()).willThrow(new IllegalStateException("connection refused"));
+		EmailBloomFilter emailBloomFilter = new EmailBloomFilter(userRepository, new SimpleMeterRegistry(), 1000, 0.01);
+
+		// when
+		emailBloomFilter.load();
+
+		// then
+		assertThat(emailBloomFilter.isLoaded()).isFalse();
+		assertThat(emailBloomFilter.mightContain("new@test.com")).isTrue();
+	}
+}
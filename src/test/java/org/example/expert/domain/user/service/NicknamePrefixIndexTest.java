@@ -0,0 +1,151 @@
+package org.example.expert.domain.user.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+public class NicknamePrefixIndexTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+
+	@Test
+	public void 적재_전에는_503_반환() {
+		// given
+		NicknamePrefixIndex nicknamePrefixIndex = new NicknamePrefixIndex(userRepository, 100, 100, 10);
+
+		// when & then
+		assertThatThrownBy(() -> nicknamePrefixIndex.search("us", 10))
+			.isInstanceOf(ServiceUnavailableException.class);
+	}
+
+	@Test
+	public void 접두어가_같은_닉네임을_대소문자_무관하게_정렬해서_상위_K건_반환() {
+		// given
+		given(userRepository.streamAllNicknames()).willReturn(Stream.of(
+			new UserNicknameResponse(1L, "banana"),
+			new UserNicknameResponse(2L, "Apple"),
+			new UserNicknameResponse(3L, "apricot"),
+			new UserNicknameResponse(4L, "apple"),
+			new UserNicknameResponse(5L, "APP")
+		));
+		NicknamePrefixIndex nicknamePrefixIndex = new NicknamePrefixIndex(userRepository, 100, 100, 10);
+		nicknamePrefixIndex.load();
+
+		// when
+		List<UserNicknameResponse> result = nicknamePrefixIndex.search("aP", 3);
+
+		// then
+		assertThat(result).extracting(UserNicknameResponse::getId).containsExactly(5L, 2L, 4L);
+		assertThat(nicknamePrefixIndex.search("b", 10)).extracting(UserNicknameResponse::getNickname).containsExactly("banana");
+		assertThat(nicknamePrefixIndex.search("c", 10)).isEmpty();
+	}
+
+	@Test
+	public void 적재_이후_추가된_닉네임도_병합_전후로_검색() {
+		// given
+		given(userRepository.streamAllNicknames()).willReturn(Stream.of(
+			new UserNicknameResponse(1L, "user01"),
+			new UserNicknameResponse(3L, "user03")
+		));
+		NicknamePrefixIndex nicknamePrefixIndex = new NicknamePrefixIndex(userRepository, 1, 100, 10);
+		nicknamePrefixIndex.load();
+
+		// when
+		nicknamePrefixIndex.add(2L, "User02");
+		List<UserNicknameResponse> beforeCompact = nicknamePrefixIndex.search("user", 10);
+		nicknamePrefixIndex.compact();
+		List<UserNicknameResponse> afterCompact = nicknamePrefixIndex.search("user", 10);
+
+		// then
+		assertThat(beforeCompact).extracting(UserNicknameResponse::getId).containsExactly(1L, 2L, 3L);
+		assertThat(afterCompact).extracting(UserNicknameResponse::getId).containsExactly(1L, 2L, 3L);
+		assertThat(nicknamePrefixIndex.size()).isEqualTo(3);
+	}
+
+	@Test
+	public void 적재_중_가입해서_양쪽에_들어간_유저는_한_번만_반환() {
+		// given
+		NicknamePrefixIndex nicknamePrefixIndex = new NicknamePrefixIndex(userRepository, 100, 100, 10);
+		given(userRepository.streamAllNicknames()).willAnswer(invocation -> {
+			nicknamePrefixIndex.add(2L, "user02");
+			return Stream.of(new UserNicknameResponse(1L, "user01"), new UserNicknameResponse(2L, "user02"));
+		});
+
+		// when
+		nicknamePrefixIndex.load();
+
+		// then
+		assertThat(nicknamePrefixIndex.search("user", 10)).extracting(UserNicknameResponse::getId).containsExactly(1L, 2L);
+	}
+
+	@Test
+	public void 한글과_대량_닉네임도_접두어_범위만_반환() {
+		// given
+		given(userRepository.streamAllNicknames()).willReturn(Stream.concat(
+			IntStream.range(0, 10_000).mapToObj(i -> new UserNicknameResponse((long) i, "nick" + i)),
+			Stream.of(new UserNicknameResponse(10_000L, "홍길동"), new UserNicknameResponse(10_001L, "홍길순"))
+		));
+		NicknamePrefixIndex nicknamePrefixIndex = new NicknamePrefixIndex(userRepository, 100, 100, 10);
+		nicknamePrefixIndex.load();
+
+		// when & then
+		assertThat(nicknamePrefixIndex.search("홍길", 10)).extracting(UserNicknameResponse::getNickname).containsExactly("홍길동", "홍길순");
+		assertThat(nicknamePrefixIndex.search("NICK999", 20)).extracting(UserNicknameResponse::getNickname)
+			.containsExactly("nick999", "nick9990", "nick9991", "nick9992", "nick9993", "nick9994", "nick9995", "nick9996", "nick9997",
+				"nick9998", "nick9999");
+	}
+
+	@Test
+	public void 다른_인스턴스에서_가입한_유저를_id_순서로_따라잡고_이미_있는_유저는_건너뜀() {
+		// given
+		given(userRepository.streamAllNicknames()).willReturn(Stream.of(
+			new UserNicknameResponse(1L, "user01"),
+			new UserNicknameResponse(20L, "user20")
+		));
+		// 마지막 id 20에서 lookback 10만큼 앞인 10부터 다시 읽음 (20은 이미 색인에 있음)
+		given(userRepository.findNicknamesAfter(eq(10L), any(Pageable.class))).willReturn(List.of(
+			new UserNicknameResponse(15L, "User15"),
+			new UserNicknameResponse(20L, "user20"),
+			new UserNicknameResponse(21L, "user21")
+		));
+		NicknamePrefixIndex nicknamePrefixIndex = new NicknamePrefixIndex(userRepository, 100, 100, 10);
+		nicknamePrefixIndex.load();
+
+		// when
+		nicknamePrefixIndex.catchUpRecent();
+
+		// then
+		assertThat(nicknamePrefixIndex.search("user", 10)).extracting(UserNicknameResponse::getId).containsExactly(1L, 15L, 20L, 21L);
+		assertThat(nicknamePrefixIndex.size()).isEqualTo(4);
+	}
+
+	@Test
+	public void 보조_문자도_코드_포인트_순서로_정렬해서_검색() {
+		// given
+		given(userRepository.streamAllNicknames()).willReturn(Stream.of(
+			new UserNicknameResponse(1L, "a\uD83D\uDE00"),
+			new UserNicknameResponse(2L, "a\uFF21"),
+			new UserNicknameResponse(3L, "ab")
+		));
+		NicknamePrefixIndex nicknamePrefixIndex = new NicknamePrefixIndex(userRepository, 1, 100, 10);
+		nicknamePrefixIndex.load();
+		nicknamePrefixIndex.add(4L, "A\uD83D\uDE01");
+		nicknamePrefixIndex.compact();
+
+		// when
+		List<UserNicknameResponse> result = nicknamePrefixIndex.search("a", 10);
+
+		// then
+		assertThat(result).extracting(UserNicknameResponse::getId).containsExactly(3L, 2L, 1L, 4L);
+		assertThat(nicknamePrefixIndex.search("a\uD83D\uDE00", 10)).extracting(UserNicknameResponse::getId).containsExactly(1L);
+	}
+}
@@ -0,0 +1,140 @@
+package org.example.expert.domain.user.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+
+public class NicknameSnapshotTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+
+	@TempDir
+	Path tempDir;
+
+	private NicknameSnapshot createSnapshot(int slotCount, int dataSize) {
+		return new NicknameSnapshot(userRepository, true, tempDir.resolve("nicknames.bin").toString(), slotCount, dataSize, 2, 1);
+	}
+
+	@Test
+	public void 비활성화_시_파일을_만들지_않고_DB로_조회() {
+		// given
+		NicknameSnapshot nicknameSnapshot = new NicknameSnapshot(userRepository, false, tempDir.resolve("nicknames.bin").toString(), 16, 4096, 2, 1);
+
+		// when
+		nicknameSnapshot.open();
+
+		// then
+		assertThat(nicknameSnapshot.isAvailable()).isFalse();
+		assertThat(tempDir.resolve("nicknames.bin")).doesNotExist();
+		then(userRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	public void 재구성_후_정규화_닉네임이_같은_유저를_모두_반환() {
+		// given
+		given(userRepository.findNicknamesAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+			new UserNicknameResponse(1L, "Hello"), new UserNicknameResponse(2L, "world")));
+		given(userRepository.findNicknamesAfter(eq(2L), any(Pageable.class))).willReturn(List.of(
+			new UserNicknameResponse(3L, "hello")));
+		NicknameSnapshot nicknameSnapshot = createSnapshot(16, 4096);
+
+		// when
+		nicknameSnapshot.open();
+		nicknameSnapshot.add(4L, "HELLO");
+
+		// then
+		assertThat(nicknameSnapshot.isAvailable()).isTrue();
+		assertThat(nicknameSnapshot.find("hELLo", 0L, 10)).extracting(UserNicknameResponse::getId).containsExactly(1L, 3L, 4L);
+		assertThat(nicknameSnapshot.find("hello", 0L, 10)).extracting(UserNicknameResponse::getNickname).containsExactly("Hello", "hello", "HELLO");
+		assertThat(nicknameSnapshot.find("World", 0L, 10)).extracting(UserNicknameResponse::getId).containsExactly(2L);
+		assertThat(nicknameSnapshot.find("nobody", 0L, 10)).isEmpty();
+	}
+
+	@Test
+	public void 늦게_들어온_id도_id_순서로_끼워_넣고_cursor_이후_limit건만_반환() {
+		// given
+		NicknameSnapshot nicknameSnapshot = createSnapshot(16, 4096);
+		nicknameSnapshot.open();
+		nicknameSnapshot.add(10L, "same");
+		nicknameSnapshot.add(30L, "Same");
+
+		// when
+		nicknameSnapshot.add(20L, "SAME");
+		nicknameSnapshot.add(5L, "same");
+		nicknameSnapshot.add(20L, "SAME");
+
+		// then
+		assertThat(nicknameSnapshot.find("same", 0L, 10)).extracting(UserNicknameResponse::getId).containsExactly(5L, 10L, 20L, 30L);
+		assertThat(nicknameSnapshot.find("same", 10L, 1)).extracting(UserNicknameResponse::getId).containsExactly(20L);
+		assertThat(nicknameSnapshot.find("same", 20L, 10)).extracting(UserNicknameResponse::getNickname).containsExactly("Same");
+	}
+
+	@Test
+	public void 정상_종료된_스냅샷은_재시작_시_마지막_id_근처부터만_따라잡음() {
+		// given
+		given(userRepository.findNicknamesAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+			new UserNicknameResponse(1L, "user1"), new UserNicknameResponse(2L, "user2")));
+		NicknameSnapshot first = createSnapshot(16, 4096);
+		first.open();
+		first.add(3L, "user3");
+		first.close();
+
+		given(userRepository.findNicknamesAfter(eq(2L), any(Pageable.class))).willReturn(List.of(
+			new UserNicknameResponse(3L, "user3"), new UserNicknameResponse(4L, "user4")));
+		NicknameSnapshot restarted = createSnapshot(16, 4096);
+
+		// when
+		restarted.open();
+
+		// then
+		then(userRepository).should(times(1)).findNicknamesAfter(eq(0L), any(Pageable.class));
+		assertThat(restarted.isAvailable()).isTrue();
+		assertThat(restarted.find("user1", 0L, 10)).extracting(UserNicknameResponse::getId).containsExactly(1L);
+		assertThat(restarted.find("user3", 0L, 10)).extracting(UserNicknameResponse::getId).containsExactly(3L);
+		assertThat(restarted.find("user4", 0L, 10)).extracting(UserNicknameResponse::getId).containsExactly(4L);
+	}
+
+	@Test
+	public void 비정상_종료된_스냅샷은_처음부터_재구성() {
+		// given
+		given(userRepository.findNicknamesAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+			new UserNicknameResponse(1L, "user1")));
+		NicknameSnapshot crashed = createSnapshot(16, 4096);
+		crashed.open();
+		crashed.add(9L, "ghost");
+
+		NicknameSnapshot restarted = createSnapshot(16, 4096);
+
+		// when
+		restarted.open();
+
+		// then
+		then(userRepository).should(times(2)).findNicknamesAfter(eq(0L), any(Pageable.class));
+		assertThat(restarted.find("user1", 0L, 10)).extracting(UserNicknameResponse::getId).containsExactly(1L);
+		assertThat(restarted.find("ghost", 0L, 10)).isEmpty();
+	}
+
+	@Test
+	public void 공간이_부족하면_DB_조회로_넘김() {
+		// given
+		given(userRepository.findNicknamesAfter(eq(0L), any(Pageable.class))).willReturn(List.of(
+			new UserNicknameResponse(1L, "user1")));
+		NicknameSnapshot nicknameSnapshot = createSnapshot(4, 4096);
+		nicknameSnapshot.open();
+
+		// when
+		nicknameSnapshot.add(2L, "user2");
+		nicknameSnapshot.add(3L, "user3");
+
+		// then
+		assertThat(nicknameSnapshot.isAvailable()).isFalse();
+	}
+}
@@ -5,6 +5,7 @@ import static org.mockito.BDDMockito.*;
 
 import java.util.Optional;
 
+import org.example.expert.domain.auth.service.TokenRevocationRegistry;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
@@ -25,6 +26,9 @@ public class UserAdminServiceTest {
 	@Mock
 	private UserRepository userRepository;
 
+	@Mock
+	private TokenRevocationRegistry tokenRevocationRegistry;
+
 	@InjectMocks
 	private UserAdminService userAdminService;
 
@@ -46,6 +50,8 @@ public class UserAdminServiceTest {
 
 		// then
 		assertThat(user.getUserRole().name()).isEqualTo(userRole);
+		assertThat(user.getTokenVersion()).isEqualTo(1L);
+		verify(tokenRevocationRegistry).revokeBefore(userId, 1L);
 	}
 
 	@Test
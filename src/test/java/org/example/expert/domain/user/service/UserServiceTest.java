@@ -3,10 +3,16 @@ package org.example.expert.domain.user.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.request.UserCursor;
+import org.example.expert.domain.user.dto.response.UserNicknameResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -16,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -27,6 +34,12 @@ public class UserServiceTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private NicknamePrefixIndex nicknamePrefixIndex;
+
+	@Mock
+	private NicknameSnapshot nicknameSnapshot;
+
 	@InjectMocks
 	private UserService userService;
 
@@ -165,4 +178,111 @@ public class UserServiceTest {
 			.isInstanceOf(InvalidRequestException.class)
 			.hasMessage("잘못된 비밀번호입니다.");
 	}
+
+	@Test
+	public void normalizeNicknames_정규화_전_유저의_닉네임을_채운다() {
+		// given
+		User user = new User("user@test.com", "pw", "UserNick", UserRole.USER);
+		ReflectionTestUtils.setField(user, "nicknameNormalized", null);
+		given(userRepository.findNicknameNotNormalized(any(Pageable.class))).willReturn(List.of(user));
+
+		// when
+		int normalized = userService.normalizeNicknames(100);
+
+		// then
+		assertThat(normalized).isEqualTo(1);
+		assertThat(user.getNicknameNormalized()).isEqualTo("usernick");
+	}
+
+	@Test
+	public void searchUsersByNickname_정규화_채우기가_끝나면_IS_NULL_구간_없이_조회() {
+		// given
+		given(userRepository.existsByNicknameNormalizedIsNullAndNicknameIsNotNull()).willReturn(false);
+		given(userRepository.searchByNicknameAfterCursor(eq("hello"), isNull(), eq(11), eq(false))).willReturn(List.of(
+			new UserNicknameResponse(1L, "hello")));
+
+		// when
+		boolean completed = userService.completeNicknameNormalization();
+		CursorPageResponse<UserNicknameResponse> result = userService.searchUsersByNickname("hello", null, 10);
+
+		// then
+		assertThat(completed).isTrue();
+		assertThat(result.getContent()).extracting(UserNicknameResponse::getId).containsExactly(1L);
+	}
+
+	@Test
+	public void searchUsersByNicknamePrefix_size는_최대값으로_제한() {
+		// given
+		ReflectionTestUtils.setField(userService, "maxPrefixSearchSize", 50);
+		List<UserNicknameResponse> users = List.of(new UserNicknameResponse(1L, "user"));
+		given(nicknamePrefixIndex.search(eq("us"), eq(50))).willReturn(users);
+
+		// when
+		List<UserNicknameResponse> result = userService.searchUsersByNicknamePrefix("us", 1000);
+
+		// then
+		assertThat(result).isEqualTo(users);
+	}
+
+	@Test
+	public void searchUsersByNicknamePrefix_빈_접두어는_400_반환() {
+		// when & then
+		assertThatThrownBy(() -> userService.searchUsersByNicknamePrefix(" ", 10))
+			.isInstanceOf(InvalidRequestException.class)
+			.hasMessage("검색할 닉네임 접두어를 입력해주세요.");
+	}
+
+	@Test
+	public void searchUsersByNickname_다음_페이지가_있으면_마지막_유저로_cursor_반환() {
+		// given
+		given(userRepository.searchByNicknameAfterCursor(eq("hello"), isNull(), eq(3), eq(true))).willReturn(List.of(
+			new UserNicknameResponse(1L, "Hello"), new UserNicknameResponse(5L, "hello"), new UserNicknameResponse(7L, "hello")));
+
+		// when
+		CursorPageResponse<UserNicknameResponse> result = userService.searchUsersByNickname("hello", null, 2);
+
+		// then
+		assertThat(result.getContent()).extracting(UserNicknameResponse::getId).containsExactly(1L, 5L);
+		assertThat(result.isHasNext()).isTrue();
+		assertThat(UserCursor.decode(result.getNextCursor()).getId()).isEqualTo(5L);
+	}
+
+	@Test
+	public void searchUsersByNickname_size_범위를_벗어나면_400_반환() {
+		// when & then
+		assertThatThrownBy(() -> userService.searchUsersByNickname("hello", null, 101))
+			.isInstanceOf(InvalidRequestException.class)
+			.hasMessage("size는 1 이상 100 이하여야 합니다.");
+	}
+
+	@Test
+	public void searchUsersByNickname_스냅샷이_준비되면_DB를_조회하지_않고_cursor_이후만_반환() {
+		// given
+		given(nicknameSnapshot.isAvailable()).willReturn(true);
+		given(nicknameSnapshot.find(eq("hello"), eq(1L), eq(11))).willReturn(List.of(
+			new UserNicknameResponse(5L, "hello"), new UserNicknameResponse(7L, "HELLO")));
+		String cursor = new UserCursor(1L).encode();
+
+		// when
+		CursorPageResponse<UserNicknameResponse> result = userService.searchUsersByNickname("hello", cursor, 10);
+
+		// then
+		assertThat(result.getContent()).extracting(UserNicknameResponse::getId).containsExactly(5L, 7L);
+		assertThat(result.isHasNext()).isFalse();
+		verify(userRepository, never()).searchByNicknameAfterCursor(anyString(), any(), anyInt(), anyBoolean());
+	}
+
+	@Test
+	public void searchUsersByNickname_이전_형식의_cursor도_id로_이어서_조회() {
+		// given
+		String legacyCursor = Base64.getUrlEncoder().withoutPadding().encodeToString("5|Hello".getBytes(StandardCharsets.UTF_8));
+		given(userRepository.searchByNicknameAfterCursor(eq("hello"), eq(5L), eq(11), eq(true))).willReturn(List.of(
+			new UserNicknameResponse(7L, "hello")));
+
+		// when
+		CursorPageResponse<UserNicknameResponse> result = userService.searchUsersByNickname("hello", legacyCursor, 10);
+
+		// then
+		assertThat(result.getContent()).extracting(UserNicknameResponse::getId).containsExactly(7L);
+	}
 }
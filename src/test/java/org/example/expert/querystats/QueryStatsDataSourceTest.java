@@ -0,0 +1,85 @@
+package org.example.expert.querystats;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.example.expert.querystats.dto.QueryStatResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+public class QueryStatsDataSourceTest {
+
+	private final QueryStatsStore store = new QueryStatsStore(100);
+	private final QueryStatsDataSource dataSource = new QueryStatsDataSource(
+		new DriverManagerDataSource("jdbc:h2:mem:querystats;DB_CLOSE_DELAY=-1", "sa", ""), store);
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("drop table if exists items");
+			statement.execute("create table items (id bigint primary key, name varchar(20))");
+			statement.executeUpdate("insert into items values (1, 'a'), (2, 'b'), (3, 'c')");
+		}
+		store.reset();
+	}
+
+	@Test
+	public void PreparedStatement_실행_횟수와_읽은_행_수를_집계() throws SQLException {
+		// when
+		int read = 0;
+		try (Connection connection = dataSource.getConnection()) {
+			for (long id = 1; id <= 3; id++) {
+				try (PreparedStatement psmt = connection.prepareStatement("select name from items where id >= ?")) {
+					psmt.setLong(1, id);
+					try (ResultSet resultSet = psmt.executeQuery()) {
+						while (resultSet.next()) {
+							read++;
+						}
+					}
+				}
+			}
+		}
+
+		// then
+		assertThat(read).isEqualTo(6);
+		QueryStatResponse response = store.snapshot(10).statements().get(0);
+		assertThat(response.fingerprint()).isEqualTo("select name from items where id >= ?");
+		assertThat(response.calls()).isEqualTo(3);
+		assertThat(response.rows()).isEqualTo(6);
+	}
+
+	@Test
+	public void 리터럴이_박힌_Statement도_같은_fingerprint로_묶고_변경_행_수를_집계() throws SQLException {
+		// when
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.executeUpdate("update items set name = 'x' where id = 1");
+			statement.executeUpdate("update items set name = 'y' where id = 2");
+		}
+
+		// then
+		QueryStatResponse response = store.snapshot(10).statements().get(0);
+		assertThat(response.fingerprint()).isEqualTo("update items set name = ? where id = ?");
+		assertThat(response.calls()).isEqualTo(2);
+		assertThat(response.rows()).isEqualTo(2);
+	}
+
+	@Test
+	public void 실패한_실행은_오류로_집계() throws SQLException {
+		// when
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			assertThatThrownBy(() -> statement.executeQuery("select missing from items"))
+				.isInstanceOf(SQLException.class);
+		}
+
+		// then
+		QueryStatResponse response = store.snapshot(10).statements().get(0);
+		assertThat(response.calls()).isEqualTo(1);
+		assertThat(response.errors()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,105 @@
+package org.example.expert.querystats;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.querystats.dto.QueryStatResponse;
+import org.example.expert.querystats.dto.QueryStatsResponse;
+import org.junit.jupiter.api.Test;
+
+public class QueryStatsStoreTest {
+
+	@Test
+	public void 리터럴과_IN_목록_길이만_다른_SQL은_같은_fingerprint() {
+		// when
+		String first = QueryFingerprint.of("SELECT * FROM users u WHERE u.email = 'a@a.com' AND u.id IN (1, 2, 3) LIMIT 10");
+		String second = QueryFingerprint.of("select *  from users u\n where u.email = 'it''s@b.com' and u.id in (7) limit 20");
+
+		// then
+		assertThat(first).isEqualTo("select * from users u where u.email = ? and u.id in (?) limit ?");
+		assertThat(second).isEqualTo(first);
+	}
+
+	@Test
+	public void 별칭의_숫자는_리터럴로_바꾸지_않음() {
+		// when
+		String fingerprint = QueryFingerprint.of("select t1_0.id from todos t1_0 where t1_0.id=?");
+
+		// then
+		assertThat(fingerprint).isEqualTo("select t1_0.id from todos t1_0 where t1_0.id=?");
+	}
+
+	@Test
+	public void 같은_fingerprint의_실행_시간과_행_수를_누적() {
+		// given
+		QueryStatsStore store = new QueryStatsStore(100);
+
+		// when
+		store.statFor("select u.id from users u where u.id = 1").record(TimeUnit.MICROSECONDS.toNanos(200), false);
+		QueryStat stat = store.statFor("select u.id from users u where u.id = 2");
+		stat.record(TimeUnit.MILLISECONDS.toNanos(3), true);
+		stat.addRows(5);
+
+		// then
+		QueryStatResponse response = store.snapshot(10).statements().get(0);
+		assertThat(response.calls()).isEqualTo(2);
+		assertThat(response.errors()).isEqualTo(1);
+		assertThat(response.rows()).isEqualTo(5);
+		assertThat(response.totalMillis()).isEqualTo(3.2);
+		assertThat(response.maxMillis()).isEqualTo(3.0);
+		assertThat(response.meanMillis()).isEqualTo(1.6);
+		assertThat(response.latencyHistogram())
+			.containsEntry("le_250us", 1L)
+			.containsEntry("le_5000us", 1L)
+			.containsEntry("gt_1000000us", 0L);
+	}
+
+	@Test
+	public void 총_실행_시간이_긴_순서로_limit만큼_조회() {
+		// given
+		QueryStatsStore store = new QueryStatsStore(100);
+		store.statFor("select 1 from todos").record(TimeUnit.MILLISECONDS.toNanos(1), false);
+		store.statFor("select 1 from users").record(TimeUnit.MILLISECONDS.toNanos(5), false);
+		store.statFor("select 1 from comments").record(TimeUnit.MILLISECONDS.toNanos(3), false);
+
+		// when
+		QueryStatsResponse response = store.snapshot(2);
+
+		// then
+		assertThat(response.fingerprints()).isEqualTo(3);
+		assertThat(response.statements()).extracting(QueryStatResponse::fingerprint)
+			.containsExactly("select ? from users", "select ? from comments");
+	}
+
+	@Test
+	public void fingerprint_한도를_넘으면_other에_모음() {
+		// given
+		QueryStatsStore store = new QueryStatsStore(2);
+
+		// when
+		store.statFor("select a from todos").record(1, false);
+		store.statFor("select b from todos").record(1, false);
+		store.statFor("select c from todos").record(1, false);
+		store.statFor("select d from todos").record(1, false);
+
+		// then
+		assertThat(store.snapshot(10).statements()).extracting(QueryStatResponse::fingerprint, QueryStatResponse::calls)
+			.contains(tuple("<other>", 2L));
+		assertThat(store.size()).isEqualTo(3);
+	}
+
+	@Test
+	public void 초기화하면_통계가_비워짐() {
+		// given
+		QueryStatsStore store = new QueryStatsStore(100);
+		store.statFor("select 1 from todos").record(1, false);
+
+		// when
+		store.reset();
+
+		// then
+		assertThat(store.snapshot(10).statements()).isEmpty();
+		assertThat(store.size()).isZero();
+	}
+}
@@ -1,6 +1,7 @@
 package org.example.expert.support;
 
 import org.example.expert.config.JwtUtil;
+import org.example.expert.config.ManagementPortRequestMatcher;
 import org.example.expert.config.SecurityConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -9,7 +10,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, ManagementPortRequestMatcher.class})
 public abstract class ControllerTestSupport {
 
 	@MockBean
@@ -1,6 +1,9 @@
 package org.example.expert.support;
 
+import static org.assertj.core.api.Assertions.*;
+
 import org.example.expert.config.JwtUtil;
+import org.example.expert.config.QueryBudgetFilter;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.manager.entity.Manager;
@@ -15,11 +18,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.persistence.EntityManager;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 @Transactional
@@ -46,6 +52,9 @@ public abstract class IntegrationTestSupport {
 	@Autowired
 	protected ObjectMapper objectMapper;
 
+	@Autowired
+	protected EntityManager entityManager;
+
 	protected User saveUser(String email, String password, String nickname, UserRole userRole){
 		return  userRepository.save(new User(email, password, nickname, userRole));
 	}
@@ -63,8 +72,20 @@ public abstract class IntegrationTestSupport {
 	}
 
 	protected RequestPostProcessor addHeatherBearerToken(User user){
-		String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole());
+		String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole(), user.getTokenVersion());
 		return request -> {request.addHeader("Authorization", bearerToken); return request;};
 	}
 
+	// 테스트에서 저장한 엔티티가 1차 캐시에서 조회되지 않도록 비워서 운영과 같은 쿼리 수로 검증
+	protected void flushAndClear(){
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	protected ResultMatcher statementCount(int expected){
+		return result -> assertThat(result.getRequest().getAttribute(QueryBudgetFilter.STATEMENT_COUNT_ATTRIBUTE))
+			.as("요청 한 번에 실행된 SQL 수")
+			.isEqualTo(expected);
+	}
+
 }
@@ -0,0 +1,79 @@
+package org.example.expert.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.example.expert.querystats.QueryStat;
+import org.example.expert.querystats.QueryStatsStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// repository가 실제로 만든 SQL을 그대로 EXPLAIN해서 인덱스 사용 여부를 확인
+// SQL은 운영과 같은 QueryStatsDataSource를 거쳐 QueryStatsStore에 기록될 때 테스트 스레드 것만 모음
+@Import(QueryPlanTestSupport.SqlCaptureConfig.class)
+public abstract class QueryPlanTestSupport extends IntegrationTestSupport {
+	private static final int PAGE_SIZE = 10;
+
+	@Autowired
+	protected JdbcTemplate jdbcTemplate;
+
+	// 정렬이 있는 조회 SQL만 골라냄 (뒤따르는 count 쿼리 등은 제외)
+	protected String captureOrderedQuery(Runnable query) {
+		List<String> statements = SqlCapturingQueryStatsStore.capture(query);
+		return statements.stream()
+			.filter(sql -> sql.toLowerCase().contains("order by"))
+			.findFirst()
+			.orElseThrow(() -> new AssertionError("정렬이 있는 조회 SQL이 실행되지 않았습니다: " + statements));
+	}
+
+	// where 절 ?에 조건 값을 순서대로 넣고, 뒤에 남는 ?(limit/offset)는 페이지 크기로 채움
+	protected String explain(String sql, Object... conditionValues) {
+		int placeholders = (int) sql.chars().filter(ch -> ch == '?').count();
+		Object[] parameters = Arrays.copyOf(conditionValues, placeholders);
+		Arrays.fill(parameters, conditionValues.length, placeholders, PAGE_SIZE);
+		return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+	}
+
+	static class SqlCapturingQueryStatsStore extends QueryStatsStore {
+
+		private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+		SqlCapturingQueryStatsStore() {
+			super(1000);
+		}
+
+		static List<String> capture(Runnable query) {
+			List<String> statements = new ArrayList<>();
+			CAPTURED.set(statements);
+			try {
+				query.run();
+			} finally {
+				CAPTURED.remove();
+			}
+			return statements;
+		}
+
+		@Override
+		public QueryStat statFor(String sql) {
+			List<String> statements = CAPTURED.get();
+			if (statements != null) {
+				statements.add(sql);
+			}
+			return super.statFor(sql);
+		}
+	}
+
+	@TestConfiguration
+	static class SqlCaptureConfig {
+		@Bean
+		@Primary
+		QueryStatsStore sqlCapturingQueryStatsStore() {
+			return new SqlCapturingQueryStatsStore();
+		}
+	}
+}